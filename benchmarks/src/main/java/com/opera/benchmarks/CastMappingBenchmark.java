@@ -0,0 +1,67 @@
+package com.opera.benchmarks;
+
+import com.opera.shows.service.dto.CastMemberSummary;
+import com.opera.shows.service.dto.ShowSingerDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * The cast mapping done for every page of shows in {@code ShowServiceImpl.withCast}: group the
+ * projected rows by show, then map each group to a list of DTOs. The set variant shows what
+ * collecting into sets would add, even with the DTOs' id-only hashing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CastMappingBenchmark {
+
+    @Param({"20"})
+    public int shows;
+
+    @Param({"10", "80"})
+    public int castSize;
+
+    private List<CastMemberSummary> cast;
+
+    @Setup
+    public void setUp() {
+        cast = Fixtures.cast(new SplittableRandom(42), shows, castSize);
+    }
+
+    @Benchmark
+    public Map<UUID, Set<ShowSingerDTO>> groupToSets() {
+        Map<UUID, List<CastMemberSummary>> castByShowId = cast.stream()
+                .collect(Collectors.groupingBy(CastMemberSummary::showId));
+        return castByShowId.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().stream()
+                        .map(ShowSingerDTO::fromSummary)
+                        .collect(Collectors.toSet())));
+    }
+
+    @Benchmark
+    public Map<UUID, List<ShowSingerDTO>> groupToLists() {
+        return cast.stream()
+                .collect(Collectors.groupingBy(CastMemberSummary::showId,
+                        Collectors.mapping(ShowSingerDTO::fromSummary, Collectors.toUnmodifiableList())));
+    }
+}
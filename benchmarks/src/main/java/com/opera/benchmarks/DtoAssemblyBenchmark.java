@@ -0,0 +1,68 @@
+package com.opera.benchmarks;
+
+import com.opera.shows.model.Show;
+import com.opera.shows.model.Singer;
+import com.opera.shows.service.dto.ShowDTO;
+import com.opera.shows.service.dto.SingerDTO;
+import com.opera.shows.service.mapper.ShowMapper;
+import com.opera.shows.service.mapper.SingerMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning one entity into its DTO: the generated {@link ShowMapper} and {@link SingerMapper}
+ * against a plain constructor call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DtoAssemblyBenchmark {
+
+    private Show show;
+    private Singer singer;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        show = Fixtures.show(random);
+        singer = Fixtures.singer(random);
+    }
+
+    @Benchmark
+    public ShowDTO showGenerated() {
+        return ShowMapper.INSTANCE.toDto(show);
+    }
+
+    @Benchmark
+    public ShowDTO showFieldCopy() {
+        return new ShowDTO(show.getId(), show.getOperaId(), show.getStartTime(), show.getEndTime(),
+                show.getVenue(), show.getDescription(), show.getImageUrl(), show.getStatus(), List.of());
+    }
+
+    @Benchmark
+    public SingerDTO singerGenerated() {
+        return SingerMapper.INSTANCE.toDto(singer);
+    }
+
+    @Benchmark
+    public SingerDTO singerFieldCopy() {
+        return new SingerDTO(singer.getId(), singer.getFirstName(), singer.getLastName(),
+                singer.getDateOfBirth(), singer.getNationality(), singer.getBio(), singer.getImageUrl(),
+                singer.getVoiceType());
+    }
+}
@@ -0,0 +1,74 @@
+package com.opera.benchmarks;
+
+import com.opera.shows.model.Show;
+import com.opera.shows.model.Singer;
+import com.opera.shows.service.dto.CastMemberSummary;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Deterministic test data shaped like production rows.
+ */
+final class Fixtures {
+
+    private static final Singer.VoiceType[] VOICE_TYPES = Singer.VoiceType.values();
+    private static final String[] ROLES = {"Main", "Understudy", "Chorus"};
+
+    private Fixtures() {
+    }
+
+    static Show show(SplittableRandom random) {
+        Show show = new Show();
+        show.setId(uuid(random));
+        show.setOperaId(uuid(random));
+        show.setStartTime(LocalDateTime.of(2025, 1, 1, 19, 30).plusDays(random.nextInt(365)));
+        show.setEndTime(show.getStartTime().plusHours(3));
+        show.setVenue("Venue " + random.nextInt(20));
+        show.setDescription("A performance described in a sentence or two, as most shows are.");
+        show.setImageUrl("https://images.example.org/shows/" + show.getId() + ".jpg");
+        show.setStatus(Show.ShowStatus.SCHEDULED);
+        show.setVersion(1L);
+        return show;
+    }
+
+    static Singer singer(SplittableRandom random) {
+        Singer singer = new Singer();
+        singer.setId(uuid(random));
+        singer.setFirstName("First" + random.nextInt(1000));
+        singer.setLastName("Last" + random.nextInt(1000));
+        singer.setDateOfBirth(LocalDate.of(1960, 1, 1).plusDays(random.nextInt(15000)));
+        singer.setNationality("Italian");
+        singer.setBio("A short biography of a couple of sentences, like most singer records carry.");
+        singer.setImageUrl("https://images.example.org/singers/" + singer.getId() + ".jpg");
+        singer.setVoiceType(VOICE_TYPES[random.nextInt(VOICE_TYPES.length)]);
+        return singer;
+    }
+
+    /**
+     * Cast rows for {@code shows} shows of {@code castSize} singers each, as returned by
+     * {@code ShowSingerRepository.findSummariesByShowIdIn}.
+     */
+    static List<CastMemberSummary> cast(SplittableRandom random, int shows, int castSize) {
+        List<CastMemberSummary> cast = new ArrayList<>(shows * castSize);
+        for (int s = 0; s < shows; s++) {
+            UUID showId = uuid(random);
+            for (int c = 0; c < castSize; c++) {
+                Singer singer = singer(random);
+                cast.add(new CastMemberSummary(uuid(random), showId, "Character " + c,
+                        ROLES[random.nextInt(ROLES.length)], singer.getId(), singer.getFirstName(),
+                        singer.getLastName(), singer.getDateOfBirth(), singer.getNationality(), singer.getBio(),
+                        singer.getImageUrl(), singer.getVoiceType()));
+            }
+        }
+        return cast;
+    }
+
+    static UUID uuid(SplittableRandom random) {
+        return new UUID(random.nextLong(), random.nextLong());
+    }
+}
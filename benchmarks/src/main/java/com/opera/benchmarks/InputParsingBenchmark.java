@@ -0,0 +1,58 @@
+package com.opera.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Argument parsing as done by {@code ShowDataFetcher}: ids with {@link UUID#fromString} and
+ * times with {@code LocalDateTime.parse(value, ISO_DATE_TIME)}, against the stricter
+ * {@code ISO_LOCAL_DATE_TIME} that {@link LocalDateTime#parse(CharSequence)} uses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class InputParsingBenchmark {
+
+    private final DateTimeFormatter formatter = DateTimeFormatter.ISO_DATE_TIME;
+
+    private String id;
+    private String dateTime;
+
+    @Setup
+    public void setUp() {
+        id = Fixtures.uuid(new SplittableRandom(42)).toString();
+        dateTime = "2025-03-14T19:30:00";
+    }
+
+    @Benchmark
+    public UUID uuidFromString() {
+        return UUID.fromString(id);
+    }
+
+    @Benchmark
+    public LocalDateTime parseIsoDateTime() {
+        return LocalDateTime.parse(dateTime, formatter);
+    }
+
+    @Benchmark
+    public LocalDateTime parseIsoLocalDateTime() {
+        return LocalDateTime.parse(dateTime);
+    }
+}
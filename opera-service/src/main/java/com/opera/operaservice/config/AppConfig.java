@@ -0,0 +1,19 @@
+package com.opera.operaservice.config;
+
+import com.opera.sqlmetrics.SqlMetricsProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class AppConfig {
+
+    /**
+     * Binds the sql-metrics module settings, such as the statement budget, under {@code opera.sql-metrics}.
+     */
+    @Bean
+    @ConfigurationProperties("opera.sql-metrics")
+    public SqlMetricsProperties sqlMetricsProperties() {
+        return new SqlMetricsProperties();
+    }
+}
@@ -0,0 +1,50 @@
+package com.opera.operaservice.controller;
+
+import com.opera.operaservice.dto.OperaSummaryDTO;
+import com.opera.operaservice.service.OperaService;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * REST endpoints used by other services (shows-service) to resolve opera references.
+ * They return {@link OperaSummaryDTO}s only, never the full opera graph.
+ */
+@RestController
+public class OperaSummaryController {
+
+    static final int MAX_BATCH_SIZE = 500;
+
+    private final OperaService operaService;
+
+    public OperaSummaryController(OperaService operaService) {
+        this.operaService = operaService;
+    }
+
+    @GetMapping("/operas/{id}")
+    public OperaSummaryDTO getOpera(@PathVariable("id") UUID id) {
+        return operaService.findSummaryById(id)
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.NOT_FOUND, "Opera not found with id: " + id));
+    }
+
+    /**
+     * Returns the summaries of every known opera among {@code ids}; unknown ids are omitted.
+     */
+    @PostMapping("/internal/operas/batch")
+    public List<OperaSummaryDTO> getOperas(@RequestBody List<UUID> ids) {
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "At most " + MAX_BATCH_SIZE + " ids can be requested at once");
+        }
+        return operaService.findSummariesByIds(new LinkedHashSet<>(ids));
+    }
+}
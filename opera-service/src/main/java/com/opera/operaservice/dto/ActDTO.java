@@ -1,37 +1,35 @@
 package com.opera.operaservice.dto;
 
 import com.opera.operaservice.model.Act;
-import lombok.Data;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
-@Data
-public class ActDTO {
-    private UUID id;
-    private String title;
-    private String description;
-    private Integer sequenceNumber;
-    private UUID operaId;
-    private Set<SceneDTO> scenes = new HashSet<>();
-    
-    // For GraphQL federation
-    private OperaDTO opera;
-    
+/**
+ * Equal by id only, so hashing an act never walks its scenes.
+ */
+public record ActDTO(
+        UUID id,
+        String title,
+        String description,
+        Integer sequenceNumber,
+        UUID operaId,
+        List<SceneDTO> scenes,
+        // For GraphQL federation
+        OperaDTO opera) {
+
+    public ActDTO {
+        scenes = scenes == null ? List.of() : List.copyOf(scenes);
+    }
+
     public static ActDTO fromEntity(Act act) {
         if (act == null) return null;
-        
-        ActDTO dto = new ActDTO();
-        dto.setId(act.getId());
-        dto.setTitle(act.getTitle());
-        dto.setDescription(act.getDescription());
-        dto.setSequenceNumber(act.getSequenceNumber());
-        dto.setOperaId(act.getOpera().getId());
-        
-        return dto;
+
+        return new ActDTO(act.getId(), act.getTitle(), act.getDescription(), act.getSequenceNumber(),
+                act.getOpera().getId(), null, null);
     }
-    
+
     public Act toEntity() {
         Act act = new Act();
         act.setId(this.id);
@@ -41,4 +39,16 @@ public class ActDTO {
         
         return act;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ActDTO)) return false;
+        return id != null && id.equals(((ActDTO) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
 }
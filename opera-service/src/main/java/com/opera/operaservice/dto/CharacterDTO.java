@@ -1,39 +1,39 @@
 package com.opera.operaservice.dto;
 
 import com.opera.operaservice.model.Character;
-import lombok.Data;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
-@Data
-public class CharacterDTO {
-    private UUID id;
-    private String name;
-    private String description;
-    private Character.VoiceType voiceType;
-    private UUID operaId;
-    private Set<SceneDTO> scenes = new HashSet<>();
-    private Set<MusicDTO> music = new HashSet<>();
-    
-    // For GraphQL federation
-    private OperaDTO opera;
-    private Set<ShowSingerDTO> showAppearances = new HashSet<>();
-    
+/**
+ * Equal by id only, so hashing a character never walks its scenes, music or appearances.
+ */
+public record CharacterDTO(
+        UUID id,
+        String name,
+        String description,
+        Character.VoiceType voiceType,
+        UUID operaId,
+        List<SceneDTO> scenes,
+        List<MusicDTO> music,
+        // For GraphQL federation
+        OperaDTO opera,
+        List<ShowSingerDTO> showAppearances) {
+
+    public CharacterDTO {
+        scenes = scenes == null ? List.of() : List.copyOf(scenes);
+        music = music == null ? List.of() : List.copyOf(music);
+        showAppearances = showAppearances == null ? List.of() : List.copyOf(showAppearances);
+    }
+
     public static CharacterDTO fromEntity(Character character) {
         if (character == null) return null;
-        
-        CharacterDTO dto = new CharacterDTO();
-        dto.setId(character.getId());
-        dto.setName(character.getName());
-        dto.setDescription(character.getDescription());
-        dto.setVoiceType(character.getVoiceType());
-        dto.setOperaId(character.getOpera().getId());
-        
-        return dto;
+
+        return new CharacterDTO(character.getId(), character.getName(), character.getDescription(),
+                character.getVoiceType(), character.getOpera().getId(), null, null, null, null);
     }
-    
+
     public Character toEntity() {
         Character character = new Character();
         character.setId(this.id);
@@ -43,4 +43,16 @@ public class CharacterDTO {
         
         return character;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CharacterDTO)) return false;
+        return id != null && id.equals(((CharacterDTO) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
 }
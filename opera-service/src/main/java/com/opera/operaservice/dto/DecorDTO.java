@@ -1,35 +1,34 @@
 package com.opera.operaservice.dto;
 
 import com.opera.operaservice.model.Decor;
-import lombok.Data;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
-@Data
-public class DecorDTO {
-    private UUID id;
-    private String name;
-    private String description;
-    private UUID operaId;
-    private Set<SceneDTO> scenes = new HashSet<>();
-    
-    // For GraphQL federation
-    private OperaDTO opera;
-    
+/**
+ * Equal by id only, so hashing a decor never walks its scenes.
+ */
+public record DecorDTO(
+        UUID id,
+        String name,
+        String description,
+        UUID operaId,
+        List<SceneDTO> scenes,
+        // For GraphQL federation
+        OperaDTO opera) {
+
+    public DecorDTO {
+        scenes = scenes == null ? List.of() : List.copyOf(scenes);
+    }
+
     public static DecorDTO fromEntity(Decor decor) {
         if (decor == null) return null;
-        
-        DecorDTO dto = new DecorDTO();
-        dto.setId(decor.getId());
-        dto.setName(decor.getName());
-        dto.setDescription(decor.getDescription());
-        dto.setOperaId(decor.getOpera().getId());
-        
-        return dto;
+
+        return new DecorDTO(decor.getId(), decor.getName(), decor.getDescription(), decor.getOpera().getId(),
+                null, null);
     }
-    
+
     public Decor toEntity() {
         Decor decor = new Decor();
         decor.setId(this.id);
@@ -38,4 +37,16 @@ public class DecorDTO {
         
         return decor;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DecorDTO)) return false;
+        return id != null && id.equals(((DecorDTO) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
 }
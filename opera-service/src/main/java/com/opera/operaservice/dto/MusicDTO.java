@@ -1,39 +1,36 @@
 package com.opera.operaservice.dto;
 
 import com.opera.operaservice.model.Music;
-import lombok.Data;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
-@Data
-public class MusicDTO {
-    private UUID id;
-    private String title;
-    private String description;
-    private String lyrics;
-    private String composer;
-    private UUID sceneId;
-    private Set<CharacterDTO> characters = new HashSet<>();
-    
-    // For GraphQL federation
-    private SceneDTO scene;
-    
+/**
+ * Equal by id only, so hashing a piece of music never walks its characters.
+ */
+public record MusicDTO(
+        UUID id,
+        String title,
+        String description,
+        String lyrics,
+        String composer,
+        UUID sceneId,
+        List<CharacterDTO> characters,
+        // For GraphQL federation
+        SceneDTO scene) {
+
+    public MusicDTO {
+        characters = characters == null ? List.of() : List.copyOf(characters);
+    }
+
     public static MusicDTO fromEntity(Music music) {
         if (music == null) return null;
-        
-        MusicDTO dto = new MusicDTO();
-        dto.setId(music.getId());
-        dto.setTitle(music.getTitle());
-        dto.setDescription(music.getDescription());
-        dto.setLyrics(music.getLyrics());
-        dto.setComposer(music.getComposer());
-        dto.setSceneId(music.getScene().getId());
-        
-        return dto;
+
+        return new MusicDTO(music.getId(), music.getTitle(), music.getDescription(), music.getLyrics(),
+                music.getComposer(), music.getScene().getId(), null, null);
     }
-    
+
     public Music toEntity() {
         Music music = new Music();
         music.setId(this.id);
@@ -44,4 +41,16 @@ public class MusicDTO {
         
         return music;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MusicDTO)) return false;
+        return id != null && id.equals(((MusicDTO) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
 }
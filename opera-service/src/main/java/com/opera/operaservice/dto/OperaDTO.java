@@ -1,44 +1,43 @@
 package com.opera.operaservice.dto;
 
 import com.opera.operaservice.model.Opera;
-import lombok.Data;
 
 import java.time.Year;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
-@Data
-public class OperaDTO {
-    private UUID id;
-    private String title;
-    private String description;
-    private Year premiereYear;
-    private String composer;
-    private String librettist;
-    private String language;
-    private Set<ActDTO> acts = new HashSet<>();
-    private Set<CharacterDTO> characters = new HashSet<>();
-    private Set<DecorDTO> decors = new HashSet<>();
-    
-    // For GraphQL federation
-    private Set<ShowDTO> shows = new HashSet<>();
-    
+/**
+ * Equal by id only, so hashing an opera never walks its acts, characters or decors.
+ */
+public record OperaDTO(
+        UUID id,
+        String title,
+        String description,
+        Year premiereYear,
+        String composer,
+        String librettist,
+        String language,
+        List<ActDTO> acts,
+        List<CharacterDTO> characters,
+        List<DecorDTO> decors,
+        // For GraphQL federation
+        List<ShowDTO> shows) {
+
+    public OperaDTO {
+        acts = acts == null ? List.of() : List.copyOf(acts);
+        characters = characters == null ? List.of() : List.copyOf(characters);
+        decors = decors == null ? List.of() : List.copyOf(decors);
+        shows = shows == null ? List.of() : List.copyOf(shows);
+    }
+
     public static OperaDTO fromEntity(Opera opera) {
         if (opera == null) return null;
-        
-        OperaDTO dto = new OperaDTO();
-        dto.setId(opera.getId());
-        dto.setTitle(opera.getTitle());
-        dto.setDescription(opera.getDescription());
-        dto.setPremiereYear(opera.getPremiereYear());
-        dto.setComposer(opera.getComposer());
-        dto.setLibrettist(opera.getLibrettist());
-        dto.setLanguage(opera.getLanguage());
-        
-        return dto;
+
+        return new OperaDTO(opera.getId(), opera.getTitle(), opera.getDescription(), opera.getPremiereYear(),
+                opera.getComposer(), opera.getLibrettist(), opera.getLanguage(), null, null, null, null);
     }
-    
+
     public Opera toEntity() {
         Opera opera = new Opera();
         opera.setId(this.id);
@@ -51,4 +50,16 @@ public class OperaDTO {
         
         return opera;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof OperaDTO)) return false;
+        return id != null && id.equals(((OperaDTO) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
 }
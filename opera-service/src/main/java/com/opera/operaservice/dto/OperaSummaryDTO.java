@@ -0,0 +1,18 @@
+package com.opera.operaservice.dto;
+
+import java.time.Year;
+import java.util.UUID;
+
+/**
+ * Lightweight opera reference data for service-to-service lookups.
+ * Populated directly by a projection query, so acts, characters and decors are never loaded.
+ */
+public record OperaSummaryDTO(
+        UUID id,
+        String title,
+        String description,
+        Year premiereYear,
+        String composer,
+        String librettist,
+        String language) {
+}
@@ -1,39 +1,39 @@
 package com.opera.operaservice.dto;
 
 import com.opera.operaservice.model.Scene;
-import lombok.Data;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
-@Data
-public class SceneDTO {
-    private UUID id;
-    private String title;
-    private String description;
-    private Integer sequenceNumber;
-    private UUID actId;
-    private Set<MusicDTO> music = new HashSet<>();
-    private Set<CharacterDTO> characters = new HashSet<>();
-    private Set<DecorDTO> decors = new HashSet<>();
-    
-    // For GraphQL federation
-    private ActDTO act;
-    
+/**
+ * Equal by id only, so hashing a scene never walks its music, characters or decors.
+ */
+public record SceneDTO(
+        UUID id,
+        String title,
+        String description,
+        Integer sequenceNumber,
+        UUID actId,
+        List<MusicDTO> music,
+        List<CharacterDTO> characters,
+        List<DecorDTO> decors,
+        // For GraphQL federation
+        ActDTO act) {
+
+    public SceneDTO {
+        music = music == null ? List.of() : List.copyOf(music);
+        characters = characters == null ? List.of() : List.copyOf(characters);
+        decors = decors == null ? List.of() : List.copyOf(decors);
+    }
+
     public static SceneDTO fromEntity(Scene scene) {
         if (scene == null) return null;
-        
-        SceneDTO dto = new SceneDTO();
-        dto.setId(scene.getId());
-        dto.setTitle(scene.getTitle());
-        dto.setDescription(scene.getDescription());
-        dto.setSequenceNumber(scene.getSequenceNumber());
-        dto.setActId(scene.getAct().getId());
-        
-        return dto;
+
+        return new SceneDTO(scene.getId(), scene.getTitle(), scene.getDescription(), scene.getSequenceNumber(),
+                scene.getAct().getId(), null, null, null, null);
     }
-    
+
     public Scene toEntity() {
         Scene scene = new Scene();
         scene.setId(this.id);
@@ -43,4 +43,16 @@ public class SceneDTO {
         
         return scene;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SceneDTO)) return false;
+        return id != null && id.equals(((SceneDTO) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
 }
@@ -1,19 +1,29 @@
 package com.opera.operaservice.dto;
 
-import lombok.Data;
+import java.util.Objects;
 
 /**
  * External DTO for ShowSinger from the Shows Service.
- * Used for GraphQL federation.
+ * Used for GraphQL federation. Equal by id only, so hashing never walks the singer.
  */
-@Data
-public class ShowSingerDTO {
-    private String id;
-    private String showId;
-    private String singerId;
-    private String characterName;
-    private String role;
-    
-    // For GraphQL
-    private SingerDTO singer;
+public record ShowSingerDTO(
+        String id,
+        String showId,
+        String singerId,
+        String characterName,
+        String role,
+        // For GraphQL
+        SingerDTO singer) {
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ShowSingerDTO)) return false;
+        return id != null && id.equals(((ShowSingerDTO) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
 }
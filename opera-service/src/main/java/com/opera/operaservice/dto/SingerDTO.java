@@ -1,21 +1,18 @@
 package com.opera.operaservice.dto;
 
-import lombok.Data;
-
 import java.time.LocalDate;
 
 /**
  * External DTO for Singer from the Shows Service.
  * Used for GraphQL federation.
  */
-@Data
-public class SingerDTO {
-    private String id;
-    private String firstName;
-    private String lastName;
-    private LocalDate dateOfBirth;
-    private String nationality;
-    private String bio;
-    private String imageUrl;
-    private String voiceType;
+public record SingerDTO(
+        String id,
+        String firstName,
+        String lastName,
+        LocalDate dateOfBirth,
+        String nationality,
+        String bio,
+        String imageUrl,
+        String voiceType) {
 }
@@ -6,6 +6,7 @@ import com.opera.operaservice.model.Opera;
 import com.opera.operaservice.service.OperaService;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.time.Year;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -51,15 +52,7 @@ public class OperaDataFetcher {
 
     @DgsMutation
     public OperaDTO createOpera(@InputArgument("operaInput") OperaInput input) {
-        OperaDTO dto = new OperaDTO();
-        dto.setTitle(input.getTitle());
-        dto.setDescription(input.getDescription());
-        dto.setPremiereYear(input.getPremiereYear());
-        dto.setComposer(input.getComposer());
-        dto.setLibrettist(input.getLibrettist());
-        dto.setLanguage(input.getLanguage());
-        
-        return operaService.createOpera(dto);
+        return operaService.createOpera(toOperaDTO(null, input));
     }
 
     @DgsMutation
@@ -67,16 +60,14 @@ public class OperaDataFetcher {
             @InputArgument("id") String id,
             @InputArgument("operaInput") OperaInput input) {
         
-        OperaDTO dto = new OperaDTO();
-        dto.setId(UUID.fromString(id));
-        dto.setTitle(input.getTitle());
-        dto.setDescription(input.getDescription());
-        dto.setPremiereYear(input.getPremiereYear());
-        dto.setComposer(input.getComposer());
-        dto.setLibrettist(input.getLibrettist());
-        dto.setLanguage(input.getLanguage());
-        
-        return operaService.updateOpera(UUID.fromString(id), dto);
+        UUID operaId = UUID.fromString(id);
+        return operaService.updateOpera(operaId, toOperaDTO(operaId, input));
+    }
+
+    private static OperaDTO toOperaDTO(UUID id, OperaInput input) {
+        Year premiereYear = input.getPremiereYear() == null ? null : Year.of(input.getPremiereYear());
+        return new OperaDTO(id, input.getTitle(), input.getDescription(), premiereYear,
+                input.getComposer(), input.getLibrettist(), input.getLanguage(), null, null, null, null);
     }
 
     @DgsMutation
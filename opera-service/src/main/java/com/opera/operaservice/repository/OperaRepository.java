@@ -1,11 +1,16 @@
 package com.opera.operaservice.repository;
 
+import com.opera.operaservice.dto.OperaSummaryDTO;
 import com.opera.operaservice.model.Opera;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Year;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -13,4 +18,14 @@ public interface OperaRepository extends JpaRepository<Opera, UUID> {
     List<Opera> findByTitleContainingIgnoreCase(String title);
     List<Opera> findByComposerContainingIgnoreCase(String composer);
     List<Opera> findByPremiereYearBetween(Year start, Year end);
+    
+    @Query("SELECT new com.opera.operaservice.dto.OperaSummaryDTO(" +
+           "o.id, o.title, o.description, o.premiereYear, o.composer, o.librettist, o.language) " +
+           "FROM Opera o WHERE o.id IN (:ids)")
+    List<OperaSummaryDTO> findSummariesByIdIn(@Param("ids") Collection<UUID> ids);
+    
+    @Query("SELECT new com.opera.operaservice.dto.OperaSummaryDTO(" +
+           "o.id, o.title, o.description, o.premiereYear, o.composer, o.librettist, o.language) " +
+           "FROM Opera o WHERE o.id = :id")
+    Optional<OperaSummaryDTO> findSummaryById(@Param("id") UUID id);
 }
@@ -1,12 +1,19 @@
 package com.opera.operaservice.service;
 
+import com.opera.operaservice.dto.OperaSummaryDTO;
 import com.opera.operaservice.model.Opera;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface OperaService extends BaseService<Opera, UUID> {
     List<Opera> findByTitleContaining(String title);
     List<Opera> findByComposer(String composer);
     List<Opera> findByPremiereYearBetween(Integer startYear, Integer endYear);
+    
+    // Service-to-service lookups
+    Optional<OperaSummaryDTO> findSummaryById(UUID id);
+    List<OperaSummaryDTO> findSummariesByIds(Collection<UUID> ids);
 }
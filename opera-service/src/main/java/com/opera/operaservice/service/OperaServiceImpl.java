@@ -1,12 +1,15 @@
 package com.opera.operaservice.service;
 
+import com.opera.operaservice.dto.OperaSummaryDTO;
 import com.opera.operaservice.model.Opera;
 import com.opera.operaservice.repository.OperaRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Year;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -34,4 +37,19 @@ public class OperaServiceImpl extends BaseServiceImpl<Opera, UUID, OperaReposito
         Year end = Year.of(endYear);
         return repository.findByPremiereYearBetween(start, end);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<OperaSummaryDTO> findSummaryById(UUID id) {
+        return repository.findSummaryById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OperaSummaryDTO> findSummariesByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return repository.findSummariesByIdIn(ids);
+    }
 }
@@ -0,0 +1,75 @@
+package com.opera.operaservice.controller;
+
+import com.opera.testsupport.db.EmbeddedPostgresInitializer;
+import com.opera.testsupport.sql.StatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * shows-service resolves the operas of a whole page of shows through the batch endpoint, so one
+ * request must cost one query however many ids it carries.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ContextConfiguration(initializers = EmbeddedPostgresInitializer.class)
+class OperaSummaryStatementBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE opera CASCADE");
+    }
+
+    @Test
+    void batchLookupRunsOneStatementWhateverTheBatchSize() throws Exception {
+        List<UUID> ids = addOperas(50);
+
+        assertThat(statementsFor(ids.subList(0, 1))).hasSize(1);
+        assertThat(statementsFor(ids)).hasSize(1);
+    }
+
+    private List<String> statementsFor(List<UUID> ids) throws Exception {
+        String body = ids.stream().map(id -> "\"" + id + "\"").collect(Collectors.joining(",", "[", "]"));
+        statementCounter.reset();
+        mockMvc.perform(post("/internal/operas/batch").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(ids.size()));
+        return statementCounter.statements();
+    }
+
+    private List<UUID> addOperas(int count) {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            UUID id = UUID.randomUUID();
+            jdbcTemplate.update("INSERT INTO opera (id, title, premiere_year, composer) VALUES (?, ?, ?, ?)",
+                    id, "Opera " + i, 1800 + i, "Composer " + i);
+            ids.add(id);
+        }
+        return ids;
+    }
+}
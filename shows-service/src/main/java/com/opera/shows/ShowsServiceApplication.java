@@ -2,10 +2,10 @@ package com.opera.shows;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
-@EnableFeignClients
+@EnableScheduling
 public class ShowsServiceApplication {
     public static void main(String[] args) {
         SpringApplication.run(ShowsServiceApplication.class, args);
@@ -0,0 +1,52 @@
+package com.opera.shows.actuator;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.opera.shows.service.OperaCache;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Exposes {@code /actuator/operacache}: GET reports cache statistics,
+ * DELETE clears the whole cache and DELETE {@code /{id}} evicts one opera.
+ */
+@Component
+@Endpoint(id = "operacache")
+public class OperaCacheEndpoint {
+
+    private final OperaCache operaCache;
+
+    public OperaCacheEndpoint(OperaCache operaCache) {
+        this.operaCache = operaCache;
+    }
+
+    @ReadOperation
+    public Map<String, Object> stats() {
+        CacheStats stats = operaCache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", operaCache.estimatedSize());
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        result.put("loadSuccessCount", stats.loadSuccessCount());
+        result.put("loadFailureCount", stats.loadFailureCount());
+        result.put("averageLoadPenaltyMillis", stats.averageLoadPenalty() / 1_000_000.0);
+        return result;
+    }
+
+    @DeleteOperation
+    public void invalidateAll() {
+        operaCache.invalidateAll();
+    }
+
+    @DeleteOperation
+    public void invalidate(@Selector String id) {
+        operaCache.invalidate(id);
+    }
+}
@@ -1,13 +1,83 @@
 package com.opera.shows.client;
 
 import com.opera.shows.model.Opera;
-import org.springframework.cloud.openfeign.FeignClient;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-@FeignClient(name = "opera-service", url = "${opera.service.url}")
-public interface OperaServiceClient {
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
-    @GetMapping("/api/operas/{id}")
-    Opera getOperaById(@PathVariable("id") String id);
+/**
+ * Client for communicating with the Opera Service.
+ * <p>
+ * Calls go through a pooled, keep-alive {@link WebClient} (see {@code AppConfig}) and never
+ * hold a servlet thread while waiting on the network: lookups return immediately and
+ * complete on the client's event loop. Every call is bounded by
+ * {@code opera.service.call-timeout}. Only batched lookups are offered; single operas are
+ * resolved through {@code OperaCache}, which batches them.
+ */
+@Component
+public class OperaServiceClient {
+
+    /**
+     * Upper bound of ids sent in a single bulk request; larger lookups are split.
+     */
+    static final int MAX_BATCH_SIZE = 500;
+
+    private static final ParameterizedTypeReference<List<Opera>> OPERA_LIST =
+            new ParameterizedTypeReference<>() {};
+
+    private final WebClient webClient;
+    private final Duration callTimeout;
+    private final int maxConcurrentBatches;
+
+    public OperaServiceClient(
+            @Qualifier("operaServiceWebClient") WebClient webClient,
+            @Value("${opera.service.call-timeout:PT2S}") Duration callTimeout,
+            @Value("${opera.service.max-concurrent-batches:4}") int maxConcurrentBatches) {
+        this.webClient = webClient;
+        this.callTimeout = callTimeout;
+        this.maxConcurrentBatches = maxConcurrentBatches;
+    }
+
+    /**
+     * Fetches several operas in as few round trips as possible. Lookups larger than
+     * {@link #MAX_BATCH_SIZE} are split and the chunks are requested concurrently.
+     * Ids unknown to the Opera Service are simply absent from the result;
+     * transport failures are propagated so callers can tell them apart from
+     * missing operas.
+     */
+    public CompletableFuture<List<Opera>> getOperasByIdsAsync(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        List<String> pending = new ArrayList<>(ids);
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < pending.size(); from += MAX_BATCH_SIZE) {
+            chunks.add(pending.subList(from, Math.min(from + MAX_BATCH_SIZE, pending.size())));
+        }
+        return Flux.fromIterable(chunks)
+                .flatMap(this::fetchBatch, maxConcurrentBatches)
+                .flatMapIterable(operas -> operas)
+                .collectList()
+                .toFuture();
+    }
+
+    private Mono<List<Opera>> fetchBatch(List<String> ids) {
+        return webClient.post()
+                .uri("/api/internal/operas/batch")
+                .bodyValue(ids)
+                .retrieve()
+                .bodyToMono(OPERA_LIST)
+                .defaultIfEmpty(List.of())
+                .timeout(callTimeout);
+    }
 }
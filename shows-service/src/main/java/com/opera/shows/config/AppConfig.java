@@ -1,25 +1,60 @@
 package com.opera.shows.config;
 
-import org.modelmapper.ModelMapper;
-import org.modelmapper.convention.MatchingStrategies;
+import com.opera.sqlmetrics.SqlMetricsProperties;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 @Configuration
 public class AppConfig {
 
+    /**
+     * Pooled keep-alive client for the Opera Service. Connect and response timeouts
+     * bound each request, and callers waiting for a pooled connection give up after
+     * {@code pending-acquire-timeout} instead of queueing forever.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider operaServiceConnectionProvider(
+            @Value("${opera.service.pool.max-connections:50}") int maxConnections,
+            @Value("${opera.service.pool.pending-acquire-timeout:PT1S}") Duration pendingAcquireTimeout,
+            @Value("${opera.service.pool.max-idle-time:PT30S}") Duration maxIdleTime) {
+        return ConnectionProvider.builder("opera-service")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .build();
+    }
+
     @Bean
-    public ModelMapper modelMapper() {
-        ModelMapper modelMapper = new ModelMapper();
-        modelMapper.getConfiguration()
-                .setMatchingStrategy(MatchingStrategies.STRICT)
-                .setSkipNullEnabled(true);
-        return modelMapper;
+    public WebClient operaServiceWebClient(
+            ConnectionProvider operaServiceConnectionProvider,
+            @Value("${opera.service.url:http://localhost:8081}") String operaServiceBaseUrl,
+            @Value("${opera.service.connect-timeout:PT0.5S}") Duration connectTimeout,
+            @Value("${opera.service.response-timeout:PT2S}") Duration responseTimeout) {
+        HttpClient httpClient = HttpClient.create(operaServiceConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout)
+                .keepAlive(true);
+        return WebClient.builder()
+                .baseUrl(operaServiceBaseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
     }
 
+    /**
+     * Keeps the sql-metrics module settings, such as the statement budget, with the other shows settings.
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    @ConfigurationProperties("shows.sql-metrics")
+    public SqlMetricsProperties sqlMetricsProperties() {
+        return new SqlMetricsProperties();
     }
 }
@@ -0,0 +1,45 @@
+package com.opera.shows.controller;
+
+import com.opera.shows.service.export.ExportFormat;
+import com.opera.shows.service.export.ExportService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Full exports for the ticketing partner. The body is written while rows are read
+ * from the database, see {@link ExportService}.
+ */
+@RestController
+public class ExportController {
+
+    private final ExportService exportService;
+
+    public ExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @GetMapping("/shows/export")
+    public ResponseEntity<StreamingResponseBody> exportShows(
+            @RequestParam(name = "format", defaultValue = "NDJSON") ExportFormat format) {
+        return stream("shows", format, output -> exportService.exportShows(format, output));
+    }
+
+    @GetMapping("/singers/export")
+    public ResponseEntity<StreamingResponseBody> exportSingers(
+            @RequestParam(name = "format", defaultValue = "NDJSON") ExportFormat format) {
+        return stream("singers", format, output -> exportService.exportSingers(format, output));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> stream(String name, ExportFormat format,
+                                                                StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + name + "." + format.getExtension() + "\"")
+                .body(body);
+    }
+}
@@ -0,0 +1,49 @@
+package com.opera.shows.controller;
+
+import com.opera.shows.service.importer.ImportReport;
+import com.opera.shows.service.importer.ShowImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+
+/**
+ * Bulk import of a season's shows and cast, see {@link ShowImportService}.
+ * The request body is streamed straight into the importer, never buffered whole.
+ */
+@RestController
+@RequestMapping("/shows/import")
+public class ShowImportController {
+
+    private final ShowImportService showImportService;
+
+    public ShowImportController(ShowImportService showImportService) {
+        this.showImportService = showImportService;
+    }
+
+    /**
+     * One show per line, e.g.
+     * {@code {"operaId": "...", "startTime": "2025-10-01T19:30:00", "endTime": "...", "venue": "Main Stage",
+     * "cast": [{"singerId": "...", "characterName": "Tosca", "role": "Main"}]}}
+     */
+    @PostMapping(consumes = "application/x-ndjson")
+    public ImportReport importNdjson(HttpServletRequest request) throws IOException {
+        return showImportService.importNdjson(request.getInputStream());
+    }
+
+    /**
+     * Header row naming the columns used; a row with {@code singerId} also adds that cast member.
+     */
+    @PostMapping(consumes = "text/csv")
+    public ImportReport importCsv(HttpServletRequest request) throws IOException {
+        try {
+            return showImportService.importCsv(request.getInputStream());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.opera.shows.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Decides whether read-only work may use the replica.
+ * <p>
+ * The replica's replay lag is sampled every {@code shows.datasource.replica.lag-check-interval};
+ * while it exceeds {@code max-lag}, or the replica cannot be reached, reads stay on the primary.
+ * <p>
+ * For read-your-writes, reads also stay on the primary for a while after this instance commits
+ * a write: for {@code read-your-writes-window}, or for as long as the last measured lag if that
+ * is longer. This is per instance, not per client, so it covers the common case of a mutation
+ * followed by reads through the same instance, at the cost of briefly sending everyone's reads
+ * to the primary.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    /**
+     * Seconds the replica's replayed state is behind; 0 when it has replayed everything it
+     * received, or when the server is not a standby at all (e.g. a second local instance).
+     */
+    private static final String LAG_QUERY = "SELECT COALESCE(CASE " +
+            "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END, 0)";
+
+    private final JdbcTemplate replica;
+    private final long maxLagNanos;
+    private final long readYourWritesNanos;
+
+    private volatile boolean replicaUsable;
+    private volatile long lagNanos;
+    private volatile long lastWriteNanos = System.nanoTime() - Long.MAX_VALUE / 2;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag, Duration readYourWritesWindow) {
+        this.replica = new JdbcTemplate(replicaDataSource);
+        this.maxLagNanos = maxLag.toNanos();
+        this.readYourWritesNanos = readYourWritesWindow.toNanos();
+    }
+
+    /**
+     * Whether a read-only transaction starting now may run on the replica.
+     */
+    public boolean canReadFromReplica() {
+        if (!replicaUsable) {
+            return false;
+        }
+        long sinceLastWrite = System.nanoTime() - lastWriteNanos;
+        return sinceLastWrite > Math.max(readYourWritesNanos, lagNanos);
+    }
+
+    /**
+     * Called when a read-write transaction has committed.
+     */
+    public void recordWrite() {
+        lastWriteNanos = System.nanoTime();
+    }
+
+    public Duration getLag() {
+        return Duration.ofNanos(lagNanos);
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    @Scheduled(fixedDelayString = "${shows.datasource.replica.lag-check-interval:PT1S}")
+    public void checkLag() {
+        boolean usable;
+        try {
+            Double seconds = replica.queryForObject(LAG_QUERY, Double.class);
+            lagNanos = seconds == null ? 0 : (long) (seconds * 1_000_000_000L);
+            usable = lagNanos <= maxLagNanos;
+            if (!usable && replicaUsable) {
+                log.warn("Replica is {} behind, reading from the primary until it catches up", getLag());
+            }
+        } catch (RuntimeException e) {
+            usable = false;
+            if (replicaUsable) {
+                log.warn("Replica lag check failed, reading from the primary", e);
+            }
+        }
+        if (usable && !replicaUsable) {
+            log.info("Replica is {} behind, reading from it again", getLag());
+        }
+        replicaUsable = usable;
+    }
+}
@@ -0,0 +1,21 @@
+package com.opera.shows.exception;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Thrown when a show or cast change would double-book a venue or a singer.
+ */
+public class BookingConflictException extends RuntimeException {
+
+    private final List<UUID> conflictingShowIds;
+
+    public BookingConflictException(String message, List<UUID> conflictingShowIds) {
+        super(message);
+        this.conflictingShowIds = List.copyOf(conflictingShowIds);
+    }
+
+    public List<UUID> getConflictingShowIds() {
+        return conflictingShowIds;
+    }
+}
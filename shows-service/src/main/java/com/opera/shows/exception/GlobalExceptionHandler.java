@@ -23,6 +23,8 @@ public class GlobalExceptionHandler extends DataFetcherExceptionResolverAdapter
             return toGraphQLError(ex, "Not Found", ErrorType.NOT_FOUND, env);
         } else if (ex instanceof DataIntegrityViolationException) {
             return toGraphQLError(ex, "Data integrity violation", ErrorType.BAD_REQUEST, env);
+        } else if (ex instanceof BookingConflictException) {
+            return toGraphQLError(ex, "Booking conflict", ErrorType.BAD_REQUEST, env);
         } else if (ex instanceof IllegalArgumentException) {
             return toGraphQLError(ex, "Invalid input", ErrorType.BAD_REQUEST, env);
         } else if (ex instanceof IllegalStateException) {
@@ -0,0 +1,20 @@
+package com.opera.shows.graphql;
+
+import graphql.schema.DataFetchingFieldSelectionSet;
+
+/**
+ * Helpers for skipping enrichment the client did not ask for.
+ */
+final class SelectionSets {
+
+    private SelectionSets() {
+    }
+
+    /**
+     * Whether {@code field} is selected on the returned objects, either directly
+     * (list and single-object queries) or on connection nodes ({@code edges/node/field}).
+     */
+    static boolean requests(DataFetchingFieldSelectionSet selectionSet, String field) {
+        return selectionSet.contains(field) || selectionSet.contains("edges/node/" + field);
+    }
+}
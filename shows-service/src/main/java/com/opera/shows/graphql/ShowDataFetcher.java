@@ -1,15 +1,27 @@
 package com.opera.shows.graphql;
 
 import com.netflix.graphql.dgs.*;
+import com.opera.shows.graphql.dataloader.OperaDataLoader;
+import com.opera.shows.graphql.dataloader.ShowDataLoader;
+import com.opera.shows.graphql.input.ShowInput;
+import com.opera.shows.graphql.pagination.Connection;
+import com.opera.shows.graphql.pagination.CursorCodec;
 import com.opera.shows.model.Show;
 import com.opera.shows.service.ShowService;
+import com.opera.shows.service.dto.OperaDTO;
 import com.opera.shows.service.dto.ShowDTO;
+import com.opera.shows.service.dto.ShowSingerDTO;
+import com.opera.shows.service.dto.ShowSummary;
+import org.dataloader.DataLoader;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 @DgsComponent
@@ -24,56 +36,94 @@ public class ShowDataFetcher {
     }
 
     @DgsQuery
-    public List<ShowDTO> shows() {
-        return showService.findAllShowsWithDetails();
+    public List<ShowDTO> shows(DgsDataFetchingEnvironment dfe) {
+        return showService.findAllShowsWithDetails(includeCast(dfe));
     }
 
     @DgsQuery
-    public ShowDTO show(@InputArgument("id") String id) {
-        return showService.findShowWithDetails(UUID.fromString(id));
+    public ShowDTO show(@InputArgument("id") String id, DgsDataFetchingEnvironment dfe) {
+        return showService.findShowWithDetails(UUID.fromString(id), includeCast(dfe));
     }
 
     @DgsQuery
-    public List<ShowDTO> showsByOperaId(@InputArgument("operaId") String operaId) {
-        return showService.findByOperaId(UUID.fromString(operaId)).stream()
-                .map(show -> showService.findShowWithDetails(show.getId()))
-                .collect(Collectors.toList());
+    public List<ShowDTO> showsByOperaId(@InputArgument("operaId") String operaId, DgsDataFetchingEnvironment dfe) {
+        return showService.toShowDTOs(showService.findSummariesByOperaId(UUID.fromString(operaId)), includeCast(dfe));
     }
 
     @DgsQuery
-    public List<ShowDTO> upcomingShows(@InputArgument("now") String now) {
+    public List<ShowDTO> upcomingShows(@InputArgument("now") String now, DgsDataFetchingEnvironment dfe) {
         LocalDateTime dateTime = LocalDateTime.parse(now, formatter);
-        return showService.findUpcomingShows(dateTime).stream()
-                .map(show -> showService.findShowWithDetails(show.getId()))
-                .collect(Collectors.toList());
+        return showService.findUpcomingShowDTOs(dateTime, includeCast(dfe));
     }
 
     @DgsQuery
     public List<ShowDTO> showsByVenueAndDateRange(
             @InputArgument("venue") String venue,
             @InputArgument("start") String start,
-            @InputArgument("end") String end) {
+            @InputArgument("end") String end,
+            DgsDataFetchingEnvironment dfe) {
         
         LocalDateTime startTime = LocalDateTime.parse(start, formatter);
         LocalDateTime endTime = LocalDateTime.parse(end, formatter);
         
-        return showService.findByVenueAndDateRange(venue, startTime, endTime).stream()
-                .map(show -> showService.findShowWithDetails(show.getId()))
-                .collect(Collectors.toList());
+        return showService.findShowDTOsByVenueAndDateRange(venue, startTime, endTime, includeCast(dfe));
+    }
+
+    @DgsQuery
+    public List<ShowDTO> conflicts(
+            @InputArgument("venue") String venue,
+            @InputArgument("start") String start,
+            @InputArgument("end") String end,
+            DgsDataFetchingEnvironment dfe) {
+        
+        LocalDateTime startTime = LocalDateTime.parse(start, formatter);
+        LocalDateTime endTime = LocalDateTime.parse(end, formatter);
+        
+        return showService.findConflicts(venue, startTime, endTime, includeCast(dfe));
+    }
+
+    @DgsQuery
+    public Connection<ShowDTO> showsConnection(
+            @InputArgument("first") Integer first,
+            @InputArgument("after") String after,
+            DgsDataFetchingEnvironment dfe) {
+        
+        Slice<ShowSummary> page = showService.findShowsPage(CursorCodec.decodeShow(after), Connection.pageSize(first));
+        return toConnection(page, dfe, showService::countShows);
+    }
+
+    @DgsQuery
+    public Connection<ShowDTO> upcomingShowsConnection(
+            @InputArgument("now") String now,
+            @InputArgument("first") Integer first,
+            @InputArgument("after") String after,
+            DgsDataFetchingEnvironment dfe) {
+        
+        LocalDateTime dateTime = LocalDateTime.parse(now, formatter);
+        Slice<ShowSummary> page = showService.findUpcomingShowsPage(
+                dateTime, CursorCodec.decodeShow(after), Connection.pageSize(first));
+        return toConnection(page, dfe, () -> showService.countUpcomingShows(dateTime));
+    }
+
+    @DgsQuery
+    public Connection<ShowDTO> showsByVenueAndDateRangeConnection(
+            @InputArgument("venue") String venue,
+            @InputArgument("start") String start,
+            @InputArgument("end") String end,
+            @InputArgument("first") Integer first,
+            @InputArgument("after") String after,
+            DgsDataFetchingEnvironment dfe) {
+        
+        LocalDateTime startTime = LocalDateTime.parse(start, formatter);
+        LocalDateTime endTime = LocalDateTime.parse(end, formatter);
+        Slice<ShowSummary> page = showService.findByVenueAndDateRangePage(
+                venue, startTime, endTime, CursorCodec.decodeShow(after), Connection.pageSize(first));
+        return toConnection(page, dfe, () -> showService.countByVenueAndDateRange(venue, startTime, endTime));
     }
 
     @DgsMutation
     public ShowDTO createShow(@InputArgument("showInput") ShowInput input) {
-        ShowDTO dto = new ShowDTO();
-        dto.setOperaId(UUID.fromString(input.getOperaId()));
-        dto.setStartTime(LocalDateTime.parse(input.getStartTime(), formatter));
-        dto.setEndTime(LocalDateTime.parse(input.getEndTime(), formatter));
-        dto.setVenue(input.getVenue());
-        dto.setDescription(input.getDescription());
-        dto.setImageUrl(input.getImageUrl());
-        dto.setStatus(Show.ShowStatus.valueOf(input.getStatus().name()));
-        
-        return showService.createShow(dto);
+        return showService.createShow(toShowDTO(null, input));
     }
 
     @DgsMutation
@@ -81,17 +131,8 @@ public class ShowDataFetcher {
             @InputArgument("id") String id,
             @InputArgument("showInput") ShowInput input) {
         
-        ShowDTO dto = new ShowDTO();
-        dto.setId(UUID.fromString(id));
-        dto.setOperaId(UUID.fromString(input.getOperaId()));
-        dto.setStartTime(LocalDateTime.parse(input.getStartTime(), formatter));
-        dto.setEndTime(LocalDateTime.parse(input.getEndTime(), formatter));
-        dto.setVenue(input.getVenue());
-        dto.setDescription(input.getDescription());
-        dto.setImageUrl(input.getImageUrl());
-        dto.setStatus(Show.ShowStatus.valueOf(input.getStatus().name()));
-        
-        return showService.updateShow(UUID.fromString(id), dto);
+        UUID showId = UUID.fromString(id);
+        return showService.updateShow(showId, toShowDTO(showId, input));
     }
 
     @DgsMutation
@@ -101,7 +142,7 @@ public class ShowDataFetcher {
     }
 
     @DgsMutation
-    public ShowDTO addCastMember(
+    public ShowSingerDTO addCastMember(
             @InputArgument("showId") String showId,
             @InputArgument("singerId") String singerId,
             @InputArgument("characterName") String characterName,
@@ -116,7 +157,7 @@ public class ShowDataFetcher {
     }
 
     @DgsMutation
-    public ShowDTO updateCastMember(
+    public ShowSingerDTO updateCastMember(
             @InputArgument("showSingerId") String showSingerId,
             @InputArgument("characterName") String characterName,
             @InputArgument("role") String role) {
@@ -129,7 +170,7 @@ public class ShowDataFetcher {
     }
 
     @DgsMutation
-    public ShowDTO removeCastMember(
+    public Boolean removeCastMember(
             @InputArgument("showId") String showId,
             @InputArgument("singerId") String singerId) {
         
@@ -139,11 +180,72 @@ public class ShowDataFetcher {
         );
     }
 
+    @DgsMutation
+    public Integer removeCastMembers(
+            @InputArgument("showId") String showId,
+            @InputArgument("singerIds") List<String> singerIds) {
+        
+        return showService.removeCastMembers(
+                UUID.fromString(showId),
+                singerIds.stream().map(UUID::fromString).collect(Collectors.toSet())
+        );
+    }
+
+    private ShowDTO toShowDTO(UUID id, ShowInput input) {
+        return new ShowDTO(
+                id,
+                UUID.fromString(input.getOperaId()),
+                LocalDateTime.parse(input.getStartTime(), formatter),
+                LocalDateTime.parse(input.getEndTime(), formatter),
+                input.getVenue(),
+                input.getDescription(),
+                input.getImageUrl(),
+                Show.ShowStatus.valueOf(input.getStatus().name()),
+                List.of());
+    }
+
+    private Connection<ShowDTO> toConnection(Slice<ShowSummary> page, DgsDataFetchingEnvironment dfe,
+                                             LongSupplier totalCount) {
+        Long count = dfe.getSelectionSet().contains("totalCount") ? totalCount.getAsLong() : null;
+        return Connection.of(showService.toShowDTOs(page.getContent(), includeCast(dfe)),
+                CursorCodec::encode, page.hasNext(), count);
+    }
+
+    /**
+     * The cast costs an extra query per page, so it is only loaded when selected.
+     * Opera details need no such check: they are resolved on demand by {@link OperaDataLoader}.
+     */
+    private static boolean includeCast(DgsDataFetchingEnvironment dfe) {
+        return SelectionSets.requests(dfe.getSelectionSet(), "cast");
+    }
+
+    @DgsData(parentType = "Show", field = "cast")
+    public List<ShowSingerDTO> castForShow(DgsDataFetchingEnvironment dfe) {
+        ShowDTO show = dfe.getSource();
+        return show.cast();
+    }
+
+    @DgsData(parentType = "Show", field = "opera")
+    public CompletableFuture<OperaDTO> operaForShow(DgsDataFetchingEnvironment dfe) {
+        ShowDTO show = dfe.getSource();
+        DataLoader<String, OperaDTO> operaLoader = dfe.getDataLoader(OperaDataLoader.NAME);
+        return operaLoader.load(show.operaId().toString());
+    }
+
+    /**
+     * The shows of all cast entries at this level of the query (typically a singer's appearances)
+     * are fetched together by {@link ShowDataLoader}.
+     */
+    @DgsData(parentType = "ShowSinger", field = "show")
+    public CompletableFuture<ShowDTO> showForCastMember(DgsDataFetchingEnvironment dfe) {
+        ShowSingerDTO castMember = dfe.getSource();
+        DataLoader<ShowDataLoader.Key, ShowDTO> showLoader = dfe.getDataLoader(ShowDataLoader.NAME);
+        return showLoader.load(new ShowDataLoader.Key(castMember.showId(), includeCast(dfe)));
+    }
+
     @DgsData(parentType = "Opera", field = "shows")
     public List<ShowDTO> showsForOpera(DgsDataFetchingEnvironment dfe) {
-        String operaId = dfe.getSource().getId();
-        return showService.findByOperaId(UUID.fromString(operaId)).stream()
-                .map(show -> showService.findShowWithDetails(show.getId()))
-                .collect(Collectors.toList());
+        OperaDTO opera = dfe.getSource();
+        return showService.toShowDTOs(showService.findSummariesByOperaId(UUID.fromString(opera.id())), includeCast(dfe));
     }
 }
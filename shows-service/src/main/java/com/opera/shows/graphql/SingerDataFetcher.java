@@ -1,15 +1,24 @@
 package com.opera.shows.graphql;
 
 import com.netflix.graphql.dgs.*;
+import com.opera.shows.graphql.dataloader.ShowAppearanceDataLoader;
+import com.opera.shows.graphql.input.SingerInput;
+import com.opera.shows.graphql.pagination.Connection;
+import com.opera.shows.graphql.pagination.CursorCodec;
 import com.opera.shows.model.Singer;
 import com.opera.shows.service.SingerService;
+import com.opera.shows.service.dto.ShowSingerDTO;
 import com.opera.shows.service.dto.SingerDTO;
+import com.opera.shows.service.dto.SingerSummary;
+import org.dataloader.DataLoader;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @DgsComponent
@@ -28,6 +37,18 @@ public class SingerDataFetcher {
         return singerService.findAllSingersWithDetails();
     }
 
+    @DgsQuery
+    public Connection<SingerDTO> singersConnection(
+            @InputArgument("first") Integer first,
+            @InputArgument("after") String after,
+            DgsDataFetchingEnvironment dfe) {
+        
+        Slice<SingerSummary> page = singerService.findSingersPage(CursorCodec.decodeSinger(after), Connection.pageSize(first));
+        Long totalCount = dfe.getSelectionSet().contains("totalCount") ? singerService.countSingers() : null;
+        return Connection.of(singerService.toSingerDTOs(page.getContent()), CursorCodec::encode,
+                page.hasNext(), totalCount);
+    }
+
     @DgsQuery
     public SingerDTO singer(@InputArgument("id") String id) {
         return singerService.findSingerWithDetails(UUID.fromString(id));
@@ -35,18 +56,25 @@ public class SingerDataFetcher {
 
     @DgsQuery
     public List<SingerDTO> singersByOperaId(@InputArgument("operaId") String operaId) {
-        return singerService.findSingersByOperaId(UUID.fromString(operaId)).stream()
-                .map(singer -> singerService.findSingerWithDetails(singer.getId()))
-                .collect(Collectors.toList());
+        return singerService.toSingerDTOs(singerService.findSummariesByOperaId(UUID.fromString(operaId)));
+    }
+
+    @DgsQuery
+    public List<SingerDTO> searchSingers(
+            @InputArgument("term") String term,
+            @InputArgument("first") Integer first,
+            @InputArgument("offset") Integer offset) {
+        
+        List<SingerSummary> singers = singerService.searchSingers(
+                term, Connection.pageSize(first), offset == null ? 0 : offset);
+        return singerService.toSingerDTOs(singers);
     }
 
     @DgsQuery
     public List<SingerDTO> singersByVoiceType(@InputArgument("voiceType") String voiceTypeStr) {
         try {
             Singer.VoiceType voiceType = Singer.VoiceType.valueOf(voiceTypeStr);
-            return singerService.findByVoiceType(voiceType).stream()
-                    .map(singer -> singerService.findSingerWithDetails(singer.getId()))
-                    .collect(Collectors.toList());
+            return singerService.toSingerDTOs(singerService.findSummariesByVoiceType(voiceType));
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException("Invalid voice type: " + voiceTypeStr);
         }
@@ -54,20 +82,7 @@ public class SingerDataFetcher {
 
     @DgsMutation
     public SingerDTO createSinger(@InputArgument("singerInput") SingerInput input) {
-        SingerDTO dto = new SingerDTO();
-        dto.setFirstName(input.getFirstName());
-        dto.setLastName(input.getLastName());
-        
-        if (input.getDateOfBirth() != null) {
-            dto.setDateOfBirth(LocalDate.parse(input.getDateOfBirth(), dateFormatter));
-        }
-        
-        dto.setNationality(input.getNationality());
-        dto.setBio(input.getBio());
-        dto.setImageUrl(input.getImageUrl());
-        dto.setVoiceType(Singer.VoiceType.valueOf(input.getVoiceType().name()));
-        
-        return singerService.createSinger(dto);
+        return singerService.createSinger(toSingerDTO(null, input));
     }
 
     @DgsMutation
@@ -75,21 +90,8 @@ public class SingerDataFetcher {
             @InputArgument("id") String id,
             @InputArgument("singerInput") SingerInput input) {
         
-        SingerDTO dto = new SingerDTO();
-        dto.setId(UUID.fromString(id));
-        dto.setFirstName(input.getFirstName());
-        dto.setLastName(input.getLastName());
-        
-        if (input.getDateOfBirth() != null) {
-            dto.setDateOfBirth(LocalDate.parse(input.getDateOfBirth(), dateFormatter));
-        }
-        
-        dto.setNationality(input.getNationality());
-        dto.setBio(input.getBio());
-        dto.setImageUrl(input.getImageUrl());
-        dto.setVoiceType(Singer.VoiceType.valueOf(input.getVoiceType().name()));
-        
-        return singerService.updateSinger(UUID.fromString(id), dto);
+        UUID singerId = UUID.fromString(id);
+        return singerService.updateSinger(singerId, toSingerDTO(singerId, input));
     }
 
     @DgsMutation
@@ -98,17 +100,29 @@ public class SingerDataFetcher {
         return true;
     }
 
-    @DgsData(parentType = "Show", field = "cast")
-    public List<ShowSinger> castForShow(DgsDataFetchingEnvironment dfe) {
-        String showId = dfe.getSource().getId();
-        // This will be handled by the ShowService when loading the ShowDTO
-        return null;
+    /**
+     * Appearances of all singers at this level of the query are fetched together by
+     * {@link ShowAppearanceDataLoader}, so lists of singers do not query once per singer.
+     */
+    @DgsData(parentType = "Singer", field = "showAppearances")
+    public CompletableFuture<List<ShowSingerDTO>> appearancesForSinger(DgsDataFetchingEnvironment dfe) {
+        SingerDTO singer = dfe.getSource();
+        DataLoader<UUID, List<ShowSingerDTO>> appearanceLoader = dfe.getDataLoader(ShowAppearanceDataLoader.NAME);
+        return appearanceLoader.load(singer.id())
+                .thenApply(appearances -> appearances.stream()
+                        .map(appearance -> appearance.withSinger(singer))
+                        .collect(Collectors.toList()));
     }
 
-    @DgsData(parentType = "Singer", field = "showAppearances")
-    public List<ShowSinger> appearancesForSinger(DgsDataFetchingEnvironment dfe) {
-        String singerId = dfe.getSource().getId();
-        // This will be handled by the SingerService when loading the SingerDTO
-        return null;
+    private SingerDTO toSingerDTO(UUID id, SingerInput input) {
+        return new SingerDTO(
+                id,
+                input.getFirstName(),
+                input.getLastName(),
+                input.getDateOfBirth() == null ? null : LocalDate.parse(input.getDateOfBirth(), dateFormatter),
+                input.getNationality(),
+                input.getBio(),
+                input.getImageUrl(),
+                Singer.VoiceType.valueOf(input.getVoiceType().name()));
     }
 }
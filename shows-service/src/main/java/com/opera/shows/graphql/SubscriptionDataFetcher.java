@@ -0,0 +1,33 @@
+package com.opera.shows.graphql;
+
+import com.netflix.graphql.dgs.DgsComponent;
+import com.netflix.graphql.dgs.DgsSubscription;
+import com.netflix.graphql.dgs.InputArgument;
+import com.opera.shows.service.dto.CastChange;
+import com.opera.shows.service.dto.ShowChange;
+import com.opera.shows.service.event.ChangeFeed;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.UUID;
+
+@DgsComponent
+public class SubscriptionDataFetcher {
+
+    private final ChangeFeed changeFeed;
+
+    @Autowired
+    public SubscriptionDataFetcher(ChangeFeed changeFeed) {
+        this.changeFeed = changeFeed;
+    }
+
+    @DgsSubscription
+    public Publisher<ShowChange> showChanged(@InputArgument("venue") String venue) {
+        return changeFeed.showChanges(venue);
+    }
+
+    @DgsSubscription
+    public Publisher<CastChange> castChanged(@InputArgument("showId") String showId) {
+        return changeFeed.castChanges(UUID.fromString(showId));
+    }
+}
@@ -0,0 +1,48 @@
+package com.opera.shows.graphql.dataloader;
+
+import com.netflix.graphql.dgs.DgsDataLoader;
+import com.opera.shows.service.OperaCache;
+import com.opera.shows.service.dto.OperaDTO;
+import org.dataloader.MappedBatchLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Resolves {@code Show.opera} for a whole GraphQL execution with a single lookup
+ * through {@link OperaCache}, which only reaches the Opera Service for ids it does not
+ * hold yet. DGS creates one loader per request, so keys are deduplicated and cached
+ * for the lifetime of that request only.
+ */
+@DgsDataLoader(name = OperaDataLoader.NAME)
+public class OperaDataLoader implements MappedBatchLoader<String, OperaDTO> {
+
+    public static final String NAME = "operas";
+
+    private static final Logger log = LoggerFactory.getLogger(OperaDataLoader.class);
+
+    private final OperaCache operaCache;
+
+    public OperaDataLoader(OperaCache operaCache) {
+        this.operaCache = operaCache;
+    }
+
+    @Override
+    public CompletionStage<Map<String, OperaDTO>> load(Set<String> operaIds) {
+        return operaCache.getAll(operaIds)
+                .thenApply(operas -> {
+                    Map<String, OperaDTO> result = new HashMap<>(operas.size());
+                    operas.forEach((id, opera) -> opera.ifPresent(o -> result.put(id, OperaDTO.fromOpera(o))));
+                    return result;
+                })
+                .exceptionally(e -> {
+                    // Opera details are optional enrichment; don't fail the whole query
+                    log.warn("Error fetching {} operas: {}", operaIds.size(), e.getMessage());
+                    return Map.of();
+                });
+    }
+}
@@ -0,0 +1,35 @@
+package com.opera.shows.graphql.dataloader;
+
+import com.netflix.graphql.dgs.DgsDataLoader;
+import com.opera.shows.service.SingerService;
+import com.opera.shows.service.dto.ShowSingerDTO;
+import org.dataloader.MappedBatchLoader;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Resolves {@code Singer.showAppearances} for every singer of a GraphQL execution level
+ * with one {@code show_singers} query per batch of singers, wherever the singers come from
+ * (a list query, a connection page or the cast of a show).
+ */
+@DgsDataLoader(name = ShowAppearanceDataLoader.NAME)
+public class ShowAppearanceDataLoader implements MappedBatchLoader<UUID, List<ShowSingerDTO>> {
+
+    public static final String NAME = "showAppearances";
+
+    private final SingerService singerService;
+
+    public ShowAppearanceDataLoader(SingerService singerService) {
+        this.singerService = singerService;
+    }
+
+    @Override
+    public CompletionStage<Map<UUID, List<ShowSingerDTO>>> load(Set<UUID> singerIds) {
+        return CompletableFuture.completedFuture(singerService.findAppearancesBySingerIds(singerIds));
+    }
+}
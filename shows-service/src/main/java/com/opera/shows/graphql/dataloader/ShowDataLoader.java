@@ -0,0 +1,52 @@
+package com.opera.shows.graphql.dataloader;
+
+import com.netflix.graphql.dgs.DgsDataLoader;
+import com.opera.shows.service.ShowService;
+import com.opera.shows.service.dto.ShowDTO;
+import org.dataloader.MappedBatchLoader;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves {@code ShowSinger.show} for every cast entry of a GraphQL execution level with one
+ * {@code shows} query per batch, plus one cast query when the cast of those shows is selected.
+ */
+@DgsDataLoader(name = ShowDataLoader.NAME)
+public class ShowDataLoader implements MappedBatchLoader<ShowDataLoader.Key, ShowDTO> {
+
+    public static final String NAME = "shows";
+
+    private final ShowService showService;
+
+    public ShowDataLoader(ShowService showService) {
+        this.showService = showService;
+    }
+
+    @Override
+    public CompletionStage<Map<Key, ShowDTO>> load(Set<Key> keys) {
+        Map<Boolean, List<UUID>> idsByIncludeCast = keys.stream()
+                .collect(Collectors.partitioningBy(Key::includeCast,
+                        Collectors.mapping(Key::showId, Collectors.toList())));
+        Map<Key, ShowDTO> result = new HashMap<>(keys.size());
+        idsByIncludeCast.forEach((includeCast, ids) -> {
+            if (!ids.isEmpty()) {
+                showService.findShowDTOsByIds(ids, includeCast)
+                        .forEach((id, show) -> result.put(new Key(id, includeCast), show));
+            }
+        });
+        return CompletableFuture.completedFuture(result);
+    }
+
+    /**
+     * A show, and whether its cast is selected too.
+     */
+    public record Key(UUID showId, boolean includeCast) {
+    }
+}
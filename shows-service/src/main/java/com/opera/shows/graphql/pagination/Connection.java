@@ -0,0 +1,34 @@
+package com.opera.shows.graphql.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Relay-style connection returned by the paginated list queries.
+ * {@code totalCount} is only computed when the client selects it.
+ */
+public record Connection<T>(List<Edge<T>> edges, PageInfo pageInfo, Long totalCount) {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    public static <T> Connection<T> of(List<T> nodes, Function<T, String> cursorOf,
+                                       boolean hasNextPage, Long totalCount) {
+        List<Edge<T>> edges = nodes.stream()
+                .map(node -> new Edge<>(cursorOf.apply(node), node))
+                .collect(Collectors.toList());
+        String endCursor = edges.isEmpty() ? null : edges.get(edges.size() - 1).cursor();
+        return new Connection<>(edges, new PageInfo(hasNextPage, endCursor), totalCount);
+    }
+
+    public static int pageSize(Integer first) {
+        if (first == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (first < 1 || first > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("first must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return first;
+    }
+}
@@ -0,0 +1,70 @@
+package com.opera.shows.graphql.pagination;
+
+import com.opera.shows.service.dto.ShowCursor;
+import com.opera.shows.service.dto.ShowDTO;
+import com.opera.shows.service.dto.SingerCursor;
+import com.opera.shows.service.dto.SingerDTO;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Encodes keyset positions as opaque, URL-safe cursors. Clients must treat the
+ * value as a token; the layout may change without notice.
+ */
+public final class CursorCodec {
+
+    private static final String SEPARATOR = "|";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorCodec() {
+    }
+
+    public static String encode(ShowDTO show) {
+        return encode(show.startTime() + SEPARATOR + show.id());
+    }
+
+    public static String encode(SingerDTO singer) {
+        // The id is written first because last names may contain the separator
+        return encode(singer.id() + SEPARATOR + singer.lastName());
+    }
+
+    public static ShowCursor decodeShow(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String[] parts = decode(cursor).split("\\|", 2);
+        try {
+            return new ShowCursor(LocalDateTime.parse(parts[0]), UUID.fromString(parts[1]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public static SingerCursor decodeSinger(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String[] parts = decode(cursor).split("\\|", 2);
+        try {
+            return new SingerCursor(parts[1], UUID.fromString(parts[0]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private static String encode(String raw) {
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String cursor) {
+        try {
+            return new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+}
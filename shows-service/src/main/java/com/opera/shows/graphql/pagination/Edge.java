@@ -0,0 +1,4 @@
+package com.opera.shows.graphql.pagination;
+
+public record Edge<T>(String cursor, T node) {
+}
@@ -2,12 +2,15 @@ package com.opera.shows.model;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 @Entity
@@ -36,20 +39,21 @@ public class Show extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private ShowStatus status = ShowStatus.SCHEDULED;
     
+    /**
+     * Keyed by singer: a singer is cast at most once per show ({@code uk_show_singer}).
+     * Read-only here; cast rows are written through {@code ShowSingerRepository}'s upsert and deletes.
+     */
     @OneToMany(mappedBy = "show", cascade = CascadeType.ALL, orphanRemoval = true)
-    private Set<ShowSinger> cast = new HashSet<>();
+    @MapKey(name = "singerId")
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Map<UUID, ShowSinger> cast = new HashMap<>();
     
     // For GraphQL Federation
     @Transient
     private Opera opera;
     
-    public void addCastMember(ShowSinger castMember) {
-        cast.add(castMember);
-        castMember.setShow(this);
-    }
-    
-    public void removeCastMember(ShowSinger castMember) {
-        cast.remove(castMember);
-        castMember.setShow(null);
+    public Collection<ShowSinger> getCast() {
+        return Collections.unmodifiableCollection(cast.values());
     }
 }
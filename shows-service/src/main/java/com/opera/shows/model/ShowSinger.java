@@ -2,9 +2,13 @@ package com.opera.shows.model;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.Objects;
+import java.util.UUID;
+
 @Entity
 @Table(name = "show_singers")
 @Getter
@@ -19,20 +23,45 @@ public class ShowSinger extends BaseEntity {
     @JoinColumn(name = "singer_id", nullable = false)
     private Singer singer;
     
+    // Read-only copies of the foreign keys: they key Show.cast and Singer.showAppearances
+    // and are readable without initializing the lazy associations
+    @Column(name = "show_id", insertable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
+    private UUID showId;
+    
+    @Column(name = "singer_id", insertable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
+    private UUID singerId;
+    
     @Column(name = "character_name")
     private String characterName;
     
     private String role; // e.g., "Main", "Understudy", "Chorus"
     
+    public void setShow(Show show) {
+        this.show = show;
+        this.showId = show == null ? null : show.getId();
+    }
+    
+    public void setSinger(Singer singer) {
+        this.singer = singer;
+        this.singerId = singer == null ? null : singer.getId();
+    }
+    
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof ShowSinger)) return false;
-        return id != null && id.equals(((ShowSinger) o).getId());
+        return getId() != null && getId().equals(((ShowSinger) o).getId());
     }
 
+    /**
+     * Hashes on the singer, which is set before an entry joins a cast and never changes for a row.
+     * Unlike the generated id it is known before the first flush, and unlike a class constant it
+     * spreads the entries of a large cast over distinct buckets.
+     */
     @Override
     public int hashCode() {
-        return getClass().hashCode();
+        return Objects.hashCode(singerId);
     }
 }
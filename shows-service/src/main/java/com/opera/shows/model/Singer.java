@@ -3,12 +3,16 @@ package com.opera.shows.model;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.time.LocalDate;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
 
 @Entity
 @Table(name = "singers")
@@ -37,8 +41,18 @@ public class Singer extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private VoiceType voiceType;
     
+    /**
+     * Keyed by show: a singer appears at most once per show ({@code uk_show_singer}).
+     */
     @OneToMany(mappedBy = "singer", cascade = CascadeType.ALL, orphanRemoval = true)
-    private Set<ShowSinger> showAppearances = new HashSet<>();
+    @MapKey(name = "showId")
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Map<UUID, ShowSinger> showAppearances = new HashMap<>();
+    
+    public Collection<ShowSinger> getShowAppearances() {
+        return Collections.unmodifiableCollection(showAppearances.values());
+    }
     
     public String getFullName() {
         return String.format("%s %s", firstName, lastName);
@@ -1,21 +1,65 @@
 package com.opera.shows.repository;
 
 import com.opera.shows.model.Show;
+import com.opera.shows.service.dto.ShowBooking;
+import com.opera.shows.service.dto.ShowSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface ShowRepository extends JpaRepository<Show, UUID> {
+    
+    // Read queries project straight into ShowSummary: no managed entities, no
+    // dirty-checking snapshots, only the columns the DTOs need.
+    String SHOW_SUMMARY = "SELECT new com.opera.shows.service.dto.ShowSummary(" +
+            "s.id, s.operaId, s.startTime, s.endTime, s.venue, s.description, s.imageUrl, s.status, s.version) " +
+            "FROM Show s ";
+    
     List<Show> findByOperaId(UUID operaId);
     List<Show> findByStartTimeBetween(LocalDateTime start, LocalDateTime end);
     List<Show> findByStatus(Show.ShowStatus status);
     
+    @Query("SELECT new com.opera.shows.service.dto.ShowBooking(s.id, s.venue, s.startTime, s.endTime, s.status) " +
+           "FROM Show s WHERE s.endTime > :now AND s.status NOT IN (:excluded)")
+    List<ShowBooking> findBookingsEndingAfter(@Param("now") LocalDateTime now,
+                                              @Param("excluded") Collection<Show.ShowStatus> excluded);
+    
+    @Query(SHOW_SUMMARY + "ORDER BY s.startTime ASC, s.id ASC")
+    List<ShowSummary> findAllSummaries();
+    
+    @Query(SHOW_SUMMARY + "WHERE s.id IN (:ids)")
+    List<ShowSummary> findSummariesByIdIn(@Param("ids") Collection<UUID> ids);
+    
+    @Query(SHOW_SUMMARY + "WHERE s.operaId = :operaId ORDER BY s.startTime ASC, s.id ASC")
+    List<ShowSummary> findSummariesByOperaId(@Param("operaId") UUID operaId);
+    
+    @Query(SHOW_SUMMARY + "WHERE s.startTime >= :start")
+    List<ShowSummary> findSummariesStartingFrom(@Param("start") LocalDateTime start);
+    
+    @Query(SHOW_SUMMARY + "WHERE s.startTime >= :now AND s.status = 'SCHEDULED' ORDER BY s.startTime ASC, s.id ASC")
+    List<ShowSummary> findUpcomingShowSummaries(@Param("now") LocalDateTime now);
+    
+    @Query(SHOW_SUMMARY + "WHERE s.venue = :venue AND s.startTime >= :start AND s.startTime < :end " +
+           "ORDER BY s.startTime ASC, s.id ASC")
+    List<ShowSummary> findSummariesByVenueAndDateRange(
+        @Param("venue") String venue,
+        @Param("start") LocalDateTime start,
+        @Param("end") LocalDateTime end
+    );
+    
     @Query("SELECT s FROM Show s WHERE s.startTime >= :now AND s.status = 'SCHEDULED' ORDER BY s.startTime ASC")
     List<Show> findUpcomingShows(@Param("now") LocalDateTime now);
     
@@ -25,4 +69,77 @@ public interface ShowRepository extends JpaRepository<Show, UUID> {
         @Param("start") LocalDateTime start, 
         @Param("end") LocalDateTime end
     );
+    
+    // Keyset pagination on (startTime, id). The leading "startTime >= :afterStartTime"
+    // predicate lets PostgreSQL seek on idx_show_start_time instead of scanning.
+    
+    @Query(SHOW_SUMMARY + "ORDER BY s.startTime ASC, s.id ASC")
+    Slice<ShowSummary> findFirstPage(Pageable pageable);
+    
+    @Query(SHOW_SUMMARY +
+           "WHERE s.startTime >= :afterStartTime " +
+           "AND (s.startTime > :afterStartTime OR s.id > :afterId) " +
+           "ORDER BY s.startTime ASC, s.id ASC")
+    Slice<ShowSummary> findPageAfter(
+        @Param("afterStartTime") LocalDateTime afterStartTime,
+        @Param("afterId") UUID afterId,
+        Pageable pageable
+    );
+    
+    @Query(SHOW_SUMMARY + "WHERE s.startTime >= :now AND s.status = 'SCHEDULED' " +
+           "ORDER BY s.startTime ASC, s.id ASC")
+    Slice<ShowSummary> findUpcomingShowsFirstPage(@Param("now") LocalDateTime now, Pageable pageable);
+    
+    @Query(SHOW_SUMMARY + "WHERE s.startTime >= :now AND s.status = 'SCHEDULED' " +
+           "AND s.startTime >= :afterStartTime " +
+           "AND (s.startTime > :afterStartTime OR s.id > :afterId) " +
+           "ORDER BY s.startTime ASC, s.id ASC")
+    Slice<ShowSummary> findUpcomingShowsPageAfter(
+        @Param("now") LocalDateTime now,
+        @Param("afterStartTime") LocalDateTime afterStartTime,
+        @Param("afterId") UUID afterId,
+        Pageable pageable
+    );
+    
+    @Query("SELECT COUNT(s) FROM Show s WHERE s.startTime >= :now AND s.status = 'SCHEDULED'")
+    long countUpcomingShows(@Param("now") LocalDateTime now);
+    
+    @Query(SHOW_SUMMARY + "WHERE s.venue = :venue AND s.startTime >= :start AND s.startTime < :end " +
+           "ORDER BY s.startTime ASC, s.id ASC")
+    Slice<ShowSummary> findByVenueAndDateRangeFirstPage(
+        @Param("venue") String venue,
+        @Param("start") LocalDateTime start,
+        @Param("end") LocalDateTime end,
+        Pageable pageable
+    );
+    
+    @Query(SHOW_SUMMARY + "WHERE s.venue = :venue AND s.startTime >= :start AND s.startTime < :end " +
+           "AND s.startTime >= :afterStartTime " +
+           "AND (s.startTime > :afterStartTime OR s.id > :afterId) " +
+           "ORDER BY s.startTime ASC, s.id ASC")
+    Slice<ShowSummary> findByVenueAndDateRangePageAfter(
+        @Param("venue") String venue,
+        @Param("start") LocalDateTime start,
+        @Param("end") LocalDateTime end,
+        @Param("afterStartTime") LocalDateTime afterStartTime,
+        @Param("afterId") UUID afterId,
+        Pageable pageable
+    );
+    
+    @Query("SELECT COUNT(s) FROM Show s WHERE s.venue = :venue AND s.startTime >= :start AND s.startTime < :end")
+    long countByVenueAndDateRange(
+        @Param("venue") String venue,
+        @Param("start") LocalDateTime start,
+        @Param("end") LocalDateTime end
+    );
+    
+    // Read through a server-side cursor, 500 rows per round trip.
+    // The stream must be consumed inside a transaction (PostgreSQL only uses cursors then) and closed.
+    
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s FROM Show s ORDER BY s.startTime ASC, s.id ASC")
+    Stream<Show> streamAll();
 }
@@ -1,16 +1,28 @@
 package com.opera.shows.repository;
 
 import com.opera.shows.model.ShowSinger;
+import com.opera.shows.service.dto.CastAssignment;
+import com.opera.shows.service.dto.CastMemberSummary;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface ShowSingerRepository extends JpaRepository<ShowSinger, UUID> {
+    
+    String CAST_MEMBER_SUMMARY = "SELECT new com.opera.shows.service.dto.CastMemberSummary(" +
+            "ss.id, ss.show.id, ss.characterName, ss.role, " +
+            "sg.id, sg.firstName, sg.lastName, sg.dateOfBirth, sg.nationality, sg.bio, sg.imageUrl, sg.voiceType) " +
+            "FROM ShowSinger ss JOIN ss.singer sg ";
+    
     List<ShowSinger> findByShowId(UUID showId);
     List<ShowSinger> findBySingerId(UUID singerId);
     
@@ -25,4 +37,80 @@ public interface ShowSingerRepository extends JpaRepository<ShowSinger, UUID> {
     
     @Query("SELECT ss FROM ShowSinger ss JOIN FETCH ss.show WHERE ss.singer.id = :singerId")
     List<ShowSinger> findWithShowBySingerId(@Param("singerId") UUID singerId);
+    
+    @Query("SELECT new com.opera.shows.service.dto.CastAssignment(ss.showId, ss.singerId) " +
+           "FROM ShowSinger ss JOIN ss.show s WHERE s.endTime > :now")
+    List<CastAssignment> findAssignmentsEndingAfter(@Param("now") LocalDateTime now);
+    
+    @Query(CAST_MEMBER_SUMMARY + "WHERE ss.show.id IN (:showIds) ORDER BY sg.lastName, sg.firstName, sg.id")
+    List<CastMemberSummary> findSummariesByShowIdIn(@Param("showIds") Collection<UUID> showIds);
+    
+    // Without the singer's columns: appearances are always read for singers already loaded
+    @Query("SELECT new com.opera.shows.service.dto.CastMemberSummary(" +
+           "ss.id, ss.showId, ss.singerId, ss.characterName, ss.role) " +
+           "FROM ShowSinger ss WHERE ss.singerId IN (:singerIds)")
+    List<CastMemberSummary> findAppearancesBySingerIdIn(@Param("singerIds") Collection<UUID> singerIds);
+    
+    @Query(CAST_MEMBER_SUMMARY + "WHERE ss.id = :id")
+    Optional<CastMemberSummary> findSummaryById(@Param("id") UUID id);
+    
+    // Cast writes touch show_singers only, so concurrent edits of one show's cast neither
+    // bump the show's version nor race on a read-then-write of its collection.
+    
+    /**
+     * Casts the singer in the show, or updates the character and role if they already are
+     * (one row per show and singer, enforced by {@code uk_show_singer}).
+     *
+     * @return the id of the inserted or updated row
+     */
+    @Query(value = "INSERT INTO show_singers (id, show_id, singer_id, character_name, role) " +
+            "VALUES (:id, :showId, :singerId, :characterName, :role) " +
+            "ON CONFLICT (show_id, singer_id) DO UPDATE SET " +
+            "character_name = EXCLUDED.character_name, role = EXCLUDED.role, " +
+            "updated_at = CURRENT_TIMESTAMP, version = show_singers.version + 1 " +
+            "RETURNING id", nativeQuery = true)
+    UUID upsert(
+        @Param("id") UUID id,
+        @Param("showId") UUID showId,
+        @Param("singerId") UUID singerId,
+        @Param("characterName") String characterName,
+        @Param("role") String role
+    );
+    
+    /**
+     * Updates the character and role of a cast entry; {@code null} keeps the current value.
+     *
+     * @return the number of rows updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ShowSinger ss SET " +
+            "ss.characterName = COALESCE(:characterName, ss.characterName), " +
+            "ss.role = COALESCE(:role, ss.role), " +
+            "ss.updatedAt = CURRENT_TIMESTAMP, ss.version = ss.version + 1 " +
+            "WHERE ss.id = :id")
+    int updateDetails(
+        @Param("id") UUID id,
+        @Param("characterName") String characterName,
+        @Param("role") String role
+    );
+    
+    /**
+     * @return the number of rows deleted, 0 if the singer is not in the show's cast
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ShowSinger ss WHERE ss.show.id = :showId AND ss.singer.id = :singerId")
+    int deleteByShowIdAndSingerId(
+        @Param("showId") UUID showId,
+        @Param("singerId") UUID singerId
+    );
+    
+    /**
+     * @return the ids of the singers actually removed from the show's cast
+     */
+    @Query(value = "DELETE FROM show_singers WHERE show_id = :showId AND singer_id IN (:singerIds) " +
+            "RETURNING singer_id", nativeQuery = true)
+    List<UUID> deleteByShowIdAndSingerIdIn(
+        @Param("showId") UUID showId,
+        @Param("singerIds") Collection<UUID> singerIds
+    );
 }
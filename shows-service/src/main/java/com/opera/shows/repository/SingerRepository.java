@@ -1,21 +1,48 @@
 package com.opera.shows.repository;
 
 import com.opera.shows.model.Singer;
+import com.opera.shows.service.dto.SingerSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface SingerRepository extends JpaRepository<Singer, UUID> {
-    List<Singer> findByLastNameContainingIgnoreCase(String lastName);
+    
+    // Read queries project straight into SingerSummary, see ShowRepository.SHOW_SUMMARY
+    String SINGER_SUMMARY = "SELECT new com.opera.shows.service.dto.SingerSummary(" +
+            "s.id, s.firstName, s.lastName, s.dateOfBirth, s.nationality, s.bio, s.imageUrl, s.voiceType) " +
+            "FROM Singer s ";
+    
     List<Singer> findByNationality(String nationality);
     List<Singer> findByVoiceType(Singer.VoiceType voiceType);
     
+    @Query(SINGER_SUMMARY + "ORDER BY s.lastName ASC, s.id ASC")
+    List<SingerSummary> findAllSummaries();
+    
+    @Query(SINGER_SUMMARY + "WHERE s.id IN (:ids)")
+    List<SingerSummary> findSummariesByIdIn(@Param("ids") Collection<UUID> ids);
+    
+    @Query(SINGER_SUMMARY + "WHERE s.voiceType = :voiceType ORDER BY s.lastName ASC, s.id ASC")
+    List<SingerSummary> findSummariesByVoiceType(@Param("voiceType") Singer.VoiceType voiceType);
+    
+    @Query(SINGER_SUMMARY + "WHERE s.id IN (" +
+           "SELECT sa.singer.id FROM ShowSinger sa JOIN sa.show sh WHERE sh.operaId = :operaId) " +
+           "ORDER BY s.lastName ASC, s.id ASC")
+    List<SingerSummary> findSummariesByOperaId(@Param("operaId") UUID operaId);
+    
     @Query("SELECT s FROM Singer s WHERE s.dateOfBirth BETWEEN :startDate AND :endDate")
     List<Singer> findBornBetween(
         @Param("startDate") LocalDate startDate,
@@ -27,4 +54,48 @@ public interface SingerRepository extends JpaRepository<Singer, UUID> {
            "JOIN sa.show sh " +
            "WHERE sh.operaId = :operaId")
     List<Singer> findSingersByOperaId(@Param("operaId") UUID operaId);
+    
+    // Keyset pagination on (lastName, id), seeking on idx_singer_last_name
+    
+    @Query(SINGER_SUMMARY + "ORDER BY s.lastName ASC, s.id ASC")
+    Slice<SingerSummary> findFirstPage(Pageable pageable);
+    
+    @Query(SINGER_SUMMARY +
+           "WHERE s.lastName >= :afterLastName " +
+           "AND (s.lastName > :afterLastName OR s.id > :afterId) " +
+           "ORDER BY s.lastName ASC, s.id ASC")
+    Slice<SingerSummary> findPageAfter(
+        @Param("afterLastName") String afterLastName,
+        @Param("afterId") UUID afterId,
+        Pageable pageable
+    );
+    
+    // Accent- and case-insensitive name search ranked by word similarity. Both predicates
+    // match the expression of idx_singer_name_trgm, so PostgreSQL answers them from the
+    // trigram index. :pattern is the term with LIKE wildcards escaped. Returns ids in
+    // rank order; the rows are then read with findSummariesByIdIn.
+    
+    @Query(value = "SELECT s.id FROM singers s " +
+                   "WHERE lower(f_unaccent(s.first_name || ' ' || s.last_name)) LIKE '%' || lower(f_unaccent(:pattern)) || '%' " +
+                   "OR lower(f_unaccent(:term)) <% lower(f_unaccent(s.first_name || ' ' || s.last_name)) " +
+                   "ORDER BY word_similarity(lower(f_unaccent(:term)), " +
+                   "lower(f_unaccent(s.first_name || ' ' || s.last_name))) DESC, s.last_name ASC, s.id ASC " +
+                   "LIMIT :limit OFFSET :offset",
+           nativeQuery = true)
+    List<UUID> searchIdsByName(
+        @Param("term") String term,
+        @Param("pattern") String pattern,
+        @Param("limit") int limit,
+        @Param("offset") int offset
+    );
+    
+    // Read through a server-side cursor, 500 rows per round trip.
+    // The stream must be consumed inside a transaction (PostgreSQL only uses cursors then) and closed.
+    
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s FROM Singer s ORDER BY s.lastName ASC, s.id ASC")
+    Stream<Singer> streamAll();
 }
@@ -0,0 +1,132 @@
+package com.opera.shows.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.opera.shows.client.OperaServiceClient;
+import com.opera.shows.model.Opera;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Bounded in-process cache of opera reference data in front of {@link OperaServiceClient}.
+ * <p>
+ * Entries expire a fixed time after they were loaded. Ids the Opera Service does not
+ * know are cached as empty for a shorter period so repeated lookups of a deleted opera
+ * do not reach the network. Entries older than the refresh interval are reloaded in the
+ * background on access while the current value keeps being served.
+ */
+@Component
+public class OperaCache {
+
+    private final AsyncLoadingCache<String, Optional<Opera>> cache;
+
+    public OperaCache(
+            OperaServiceClient operaServiceClient,
+            MeterRegistry meterRegistry,
+            @Value("${opera.cache.maximum-size:10000}") long maximumSize,
+            @Value("${opera.cache.expire-after-write:PT1H}") Duration expireAfterWrite,
+            @Value("${opera.cache.refresh-after-write:PT10M}") Duration refreshAfterWrite,
+            @Value("${opera.cache.negative-ttl:PT1M}") Duration negativeTtl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new PresenceAwareExpiry(expireAfterWrite, negativeTtl))
+                .refreshAfterWrite(refreshAfterWrite)
+                .recordStats()
+                .buildAsync(new OperaLoader(operaServiceClient));
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "operas");
+    }
+
+    /**
+     * Returns the operas for the given ids; missing operas map to {@link Optional#empty()}.
+     */
+    public CompletableFuture<Map<String, Optional<Opera>>> getAll(Collection<String> operaIds) {
+        return cache.getAll(operaIds);
+    }
+
+    public void invalidate(String operaId) {
+        cache.synchronous().invalidate(operaId);
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    public long estimatedSize() {
+        return cache.synchronous().estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+
+    private static final class OperaLoader implements AsyncCacheLoader<String, Optional<Opera>> {
+
+        private final OperaServiceClient operaServiceClient;
+
+        private OperaLoader(OperaServiceClient operaServiceClient) {
+            this.operaServiceClient = operaServiceClient;
+        }
+
+        @Override
+        public CompletableFuture<Optional<Opera>> asyncLoad(String operaId, Executor executor) {
+            return asyncLoadAll(Set.of(operaId), executor).thenApply(operas -> operas.get(operaId));
+        }
+
+        @Override
+        public CompletableFuture<Map<String, Optional<Opera>>> asyncLoadAll(
+                Set<? extends String> operaIds, Executor executor) {
+            return operaServiceClient.getOperasByIdsAsync(List.copyOf(operaIds))
+                    .thenApply(operas -> {
+                        Map<String, Optional<Opera>> result = new HashMap<>(operaIds.size());
+                        for (String operaId : operaIds) {
+                            result.put(operaId, Optional.empty());
+                        }
+                        for (Opera opera : operas) {
+                            result.put(opera.getId(), Optional.of(opera));
+                        }
+                        return result;
+                    });
+        }
+    }
+
+    private static final class PresenceAwareExpiry implements Expiry<String, Optional<Opera>> {
+
+        private final long presentTtlNanos;
+        private final long absentTtlNanos;
+
+        private PresenceAwareExpiry(Duration presentTtl, Duration absentTtl) {
+            this.presentTtlNanos = presentTtl.toNanos();
+            this.absentTtlNanos = absentTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Optional<Opera> value, long currentTime) {
+            return value.isPresent() ? presentTtlNanos : absentTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Optional<Opera> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Optional<Opera> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.opera.shows.service;
+
+import com.opera.shows.model.Show;
+import com.opera.shows.repository.ShowRepository;
+import com.opera.shows.service.dto.ShowCursor;
+import com.opera.shows.service.dto.ShowSummary;
+import com.opera.shows.service.event.ShowChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory index of the schedule, answering {@code upcomingShows} and venue/date-range
+ * lookups without borrowing a database connection.
+ * <p>
+ * The index holds a {@link ShowSummary} for every show starting at or after its horizon
+ * ({@code shows.schedule-index.lookback} before the last rebuild), ordered by
+ * {@code (startTime, id)}, plus one such ordering per venue. It is rebuilt from the
+ * database at startup and every {@code shows.schedule-index.rebuild-interval}, and kept
+ * current in between from {@link ShowChangedEvent}s once their transaction commits.
+ * Changes made by other instances are therefore only picked up by the next rebuild.
+ * <p>
+ * Lookups return {@link Optional#empty()} while the index is not built yet or when the
+ * requested range starts before the horizon; callers then fall back to the database.
+ */
+@Component
+@ConditionalOnProperty(name = "shows.schedule-index.enabled", havingValue = "true")
+public class ShowScheduleIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ShowScheduleIndex.class);
+
+    /**
+     * Same order as the keyset queries; a {@code null} id sorts before every show starting
+     * at the same time, so {@code new ShowCursor(t, null)} is an inclusive lower bound for {@code t}.
+     */
+    private static final Comparator<ShowCursor> ORDER = Comparator.comparing(ShowCursor::startTime)
+            .thenComparing(ShowCursor::id, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final ShowRepository showRepository;
+    private final Duration lookback;
+
+    private final Object writeLock = new Object();
+
+    /** Null until the first rebuild completes. */
+    private volatile Snapshot snapshot;
+
+    /** Changes committed while a rebuild is reading the database; guarded by {@link #writeLock}. */
+    private List<ShowChangedEvent> pendingDuringRebuild;
+
+    public ShowScheduleIndex(
+            ShowRepository showRepository,
+            @Value("${shows.schedule-index.lookback:P1D}") Duration lookback) {
+        this.showRepository = showRepository;
+        this.lookback = lookback;
+    }
+
+    /**
+     * Scheduled shows starting at or after {@code now}, in start time order.
+     */
+    public Optional<List<ShowSummary>> findUpcoming(LocalDateTime now) {
+        Snapshot current = snapshot;
+        if (current == null || now.isBefore(current.horizon)) {
+            return Optional.empty();
+        }
+        List<ShowSummary> result = new ArrayList<>();
+        for (ShowSummary summary : current.byTime.tailMap(new ShowCursor(now, null), true).values()) {
+            if (summary.status() == Show.ShowStatus.SCHEDULED) {
+                result.add(summary);
+            }
+        }
+        return Optional.of(result);
+    }
+
+    /**
+     * Shows at {@code venue} starting in {@code [start, end)}, in start time order.
+     */
+    public Optional<List<ShowSummary>> findByVenueAndDateRange(String venue, LocalDateTime start,
+                                                               LocalDateTime end) {
+        Snapshot current = snapshot;
+        if (current == null || start.isBefore(current.horizon)) {
+            return Optional.empty();
+        }
+        if (!start.isBefore(end)) {
+            return Optional.of(List.of());
+        }
+        NavigableMap<ShowCursor, ShowSummary> atVenue = current.byVenue.get(venue);
+        if (atVenue == null) {
+            return Optional.of(List.of());
+        }
+        return Optional.of(new ArrayList<>(
+                atVenue.subMap(new ShowCursor(start, null), true, new ShowCursor(end, null), false).values()));
+    }
+
+    public int size() {
+        Snapshot current = snapshot;
+        return current == null ? 0 : current.byId.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${shows.schedule-index.rebuild-interval:PT5M}",
+               fixedDelayString = "${shows.schedule-index.rebuild-interval:PT5M}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * Reloads the index from the database and moves the horizon forward.
+     * Changes committed while the rows are being read are replayed on top.
+     */
+    public void rebuild() {
+        Snapshot fresh = new Snapshot(LocalDateTime.now().minus(lookback));
+        synchronized (writeLock) {
+            pendingDuringRebuild = new ArrayList<>();
+        }
+        try {
+            for (ShowSummary summary : showRepository.findSummariesStartingFrom(fresh.horizon)) {
+                fresh.put(summary);
+            }
+        } catch (RuntimeException e) {
+            synchronized (writeLock) {
+                pendingDuringRebuild = null;
+            }
+            log.warn("Rebuilding the schedule index failed, keeping the previous one", e);
+            return;
+        }
+        synchronized (writeLock) {
+            pendingDuringRebuild.forEach(fresh::apply);
+            pendingDuringRebuild = null;
+            snapshot = fresh;
+        }
+        log.info("Schedule index rebuilt with {} shows starting from {}", fresh.byId.size(), fresh.horizon);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onShowChanged(ShowChangedEvent event) {
+        synchronized (writeLock) {
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+            }
+            Snapshot current = snapshot;
+            if (current != null) {
+                current.apply(event);
+            }
+        }
+    }
+
+    /**
+     * One generation of the index. Readers never lock; writers hold {@link #writeLock}.
+     */
+    private static final class Snapshot {
+
+        private final LocalDateTime horizon;
+        private final ConcurrentSkipListMap<ShowCursor, ShowSummary> byTime = new ConcurrentSkipListMap<>(ORDER);
+        private final Map<String, ConcurrentSkipListMap<ShowCursor, ShowSummary>> byVenue =
+                new ConcurrentHashMap<>();
+        private final Map<UUID, ShowSummary> byId = new ConcurrentHashMap<>();
+
+        private Snapshot(LocalDateTime horizon) {
+            this.horizon = horizon;
+        }
+
+        private void apply(ShowChangedEvent event) {
+            if (event.type() == ShowChangedEvent.Type.DELETED) {
+                remove(event.showId());
+            } else {
+                put(ShowSummary.from(event.show()));
+            }
+        }
+
+        private void put(ShowSummary summary) {
+            ShowSummary previous = byId.get(summary.id());
+            if (previous != null && isNewer(previous, summary)) {
+                return;
+            }
+            remove(summary.id());
+            if (summary.startTime().isBefore(horizon)) {
+                return;
+            }
+            ShowCursor key = keyOf(summary);
+            byId.put(summary.id(), summary);
+            byTime.put(key, summary);
+            if (summary.venue() != null) {
+                byVenue.computeIfAbsent(summary.venue(), venue -> new ConcurrentSkipListMap<>(ORDER))
+                        .put(key, summary);
+            }
+        }
+
+        private void remove(UUID id) {
+            ShowSummary previous = byId.remove(id);
+            if (previous == null) {
+                return;
+            }
+            ShowCursor key = keyOf(previous);
+            byTime.remove(key);
+            if (previous.venue() != null) {
+                ConcurrentSkipListMap<ShowCursor, ShowSummary> atVenue = byVenue.get(previous.venue());
+                if (atVenue != null) {
+                    atVenue.remove(key);
+                }
+            }
+        }
+
+        private static boolean isNewer(ShowSummary current, ShowSummary candidate) {
+            return current.version() != null && candidate.version() != null
+                    && current.version() > candidate.version();
+        }
+
+        private static ShowCursor keyOf(ShowSummary summary) {
+            return new ShowCursor(summary.startTime(), summary.id());
+        }
+    }
+}
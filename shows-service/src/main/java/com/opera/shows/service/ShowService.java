@@ -1,10 +1,16 @@
 package com.opera.shows.service;
 
 import com.opera.shows.model.Show;
+import com.opera.shows.service.dto.ShowCursor;
 import com.opera.shows.service.dto.ShowDTO;
+import com.opera.shows.service.dto.ShowSingerDTO;
+import com.opera.shows.service.dto.ShowSummary;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface ShowService extends BaseService<Show, UUID> {
@@ -14,14 +20,37 @@ public interface ShowService extends BaseService<Show, UUID> {
     List<Show> findUpcomingShows(LocalDateTime now);
     List<Show> findByVenueAndDateRange(String venue, LocalDateTime start, LocalDateTime end);
     
+    // Keyset pagination, ordered by (startTime, id); a null cursor starts at the beginning
+    Slice<ShowSummary> findShowsPage(ShowCursor after, int size);
+    Slice<ShowSummary> findUpcomingShowsPage(LocalDateTime now, ShowCursor after, int size);
+    Slice<ShowSummary> findByVenueAndDateRangePage(String venue, LocalDateTime start, LocalDateTime end,
+                                            ShowCursor after, int size);
+    long countShows();
+    long countUpcomingShows(LocalDateTime now);
+    long countByVenueAndDateRange(String venue, LocalDateTime start, LocalDateTime end);
+    
     // DTO methods
     ShowDTO findShowWithDetails(UUID id);
-    List<ShowDTO> findAllShowsWithDetails();
+    ShowDTO findShowWithDetails(UUID id, boolean includeCast);
+    List<ShowDTO> findAllShowsWithDetails(boolean includeCast);
+    List<ShowSummary> findSummariesByOperaId(UUID operaId);
+    List<ShowDTO> toShowDTOs(List<ShowSummary> shows, boolean includeCast);
+    Map<UUID, ShowDTO> findShowDTOsByIds(Collection<UUID> ids, boolean includeCast);
+    
+    // Hot schedule lookups; answered by ShowScheduleIndex when it is enabled and covers the range
+    List<ShowDTO> findUpcomingShowDTOs(LocalDateTime now, boolean includeCast);
+    List<ShowDTO> findShowDTOsByVenueAndDateRange(String venue, LocalDateTime start, LocalDateTime end,
+                                                  boolean includeCast);
+    
+    // Shows booked at the venue overlapping [start, end), in start time order
+    List<ShowDTO> findConflicts(String venue, LocalDateTime start, LocalDateTime end, boolean includeCast);
     ShowDTO createShow(ShowDTO showDTO);
     ShowDTO updateShow(UUID id, ShowDTO showDTO);
     
     // Cast management
-    ShowDTO addCastMember(UUID showId, UUID singerId, String characterName, String role);
-    ShowDTO removeCastMember(UUID showId, UUID singerId);
-    ShowDTO updateCastMember(UUID showSingerId, String characterName, String role);
+    ShowSingerDTO addCastMember(UUID showId, UUID singerId, String characterName, String role);
+    boolean removeCastMember(UUID showId, UUID singerId);
+    // Singers not in the cast are ignored; returns the number removed
+    int removeCastMembers(UUID showId, Collection<UUID> singerIds);
+    ShowSingerDTO updateCastMember(UUID showSingerId, String characterName, String role);
 }
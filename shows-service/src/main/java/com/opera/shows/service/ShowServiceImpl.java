@@ -4,38 +4,65 @@ import com.opera.shows.model.*;
 import com.opera.shows.repository.ShowRepository;
 import com.opera.shows.repository.ShowSingerRepository;
 import com.opera.shows.repository.SingerRepository;
+import com.opera.shows.service.conflict.BookingConflictDetector;
+import com.opera.shows.service.dto.CastMemberSummary;
+import com.opera.shows.service.dto.ShowCursor;
 import com.opera.shows.service.dto.ShowDTO;
 import com.opera.shows.service.dto.ShowSingerDTO;
+import com.opera.shows.service.dto.ShowSummary;
+import com.opera.shows.service.event.CastChangedEvent;
+import com.opera.shows.service.event.ShowChangedEvent;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
-@Transactional
+@Transactional(readOnly = true)
 public class ShowServiceImpl extends BaseServiceImpl<Show, UUID, ShowRepository> 
         implements ShowService {
 
+    /**
+     * Number of shows whose cast is fetched by a single IN query.
+     */
+    private static final int CAST_BATCH_SIZE = 500;
+
     private final ShowRepository showRepository;
     private final SingerRepository singerRepository;
     private final ShowSingerRepository showSingerRepository;
-    private final OperaServiceClient operaServiceClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BookingConflictDetector conflictDetector;
+    private final ShowScheduleIndex scheduleIndex; // null unless shows.schedule-index.enabled
 
     @Autowired
     public ShowServiceImpl(ShowRepository repository, 
                           SingerRepository singerRepository,
                           ShowSingerRepository showSingerRepository,
-                          OperaServiceClient operaServiceClient) {
+                          ApplicationEventPublisher eventPublisher,
+                          BookingConflictDetector conflictDetector,
+                          ObjectProvider<ShowScheduleIndex> scheduleIndex) {
         super(repository);
         this.showRepository = repository;
         this.singerRepository = singerRepository;
         this.showSingerRepository = showSingerRepository;
-        this.operaServiceClient = operaServiceClient;
+        this.eventPublisher = eventPublisher;
+        this.conflictDetector = conflictDetector;
+        this.scheduleIndex = scheduleIndex.getIfAvailable();
     }
 
     @Override
@@ -63,89 +90,221 @@ public class ShowServiceImpl extends BaseServiceImpl<Show, UUID, ShowRepository>
         return showRepository.findByVenueAndDateRange(venue, start, end);
     }
 
+    @Override
+    public Slice<ShowSummary> findShowsPage(ShowCursor after, int size) {
+        PageRequest page = PageRequest.of(0, size);
+        if (after == null) {
+            return showRepository.findFirstPage(page);
+        }
+        return showRepository.findPageAfter(after.startTime(), after.id(), page);
+    }
+
+    @Override
+    public Slice<ShowSummary> findUpcomingShowsPage(LocalDateTime now, ShowCursor after, int size) {
+        PageRequest page = PageRequest.of(0, size);
+        if (after == null) {
+            return showRepository.findUpcomingShowsFirstPage(now, page);
+        }
+        return showRepository.findUpcomingShowsPageAfter(now, after.startTime(), after.id(), page);
+    }
+
+    @Override
+    public Slice<ShowSummary> findByVenueAndDateRangePage(String venue, LocalDateTime start, LocalDateTime end,
+                                                   ShowCursor after, int size) {
+        PageRequest page = PageRequest.of(0, size);
+        if (after == null) {
+            return showRepository.findByVenueAndDateRangeFirstPage(venue, start, end, page);
+        }
+        return showRepository.findByVenueAndDateRangePageAfter(
+                venue, start, end, after.startTime(), after.id(), page);
+    }
+
+    @Override
+    public long countShows() {
+        return showRepository.count();
+    }
+
+    @Override
+    public long countUpcomingShows(LocalDateTime now) {
+        return showRepository.countUpcomingShows(now);
+    }
+
+    @Override
+    public long countByVenueAndDateRange(String venue, LocalDateTime start, LocalDateTime end) {
+        return showRepository.countByVenueAndDateRange(venue, start, end);
+    }
+
     @Override
     public ShowDTO findShowWithDetails(UUID id) {
-        return showRepository.findById(id)
-                .map(this::convertToShowDTO)
-                .orElse(null);
+        return findShowWithDetails(id, true);
+    }
+
+    @Override
+    public ShowDTO findShowWithDetails(UUID id, boolean includeCast) {
+        List<ShowDTO> dtos = toShowDTOs(showRepository.findSummariesByIdIn(List.of(id)), includeCast);
+        return dtos.isEmpty() ? null : dtos.get(0);
+    }
+
+    @Override
+    public List<ShowDTO> findAllShowsWithDetails(boolean includeCast) {
+        return toShowDTOs(showRepository.findAllSummaries(), includeCast);
+    }
+
+    @Override
+    public List<ShowSummary> findSummariesByOperaId(UUID operaId) {
+        return showRepository.findSummariesByOperaId(operaId);
+    }
+
+    /**
+     * Builds detail DTOs from projected rows, so list queries never load
+     * managed entities. The cast is only loaded when {@code includeCast} is set.
+     */
+    @Override
+    public List<ShowDTO> toShowDTOs(List<ShowSummary> summaries, boolean includeCast) {
+        List<ShowDTO> dtos = summaries.stream()
+                .map(ShowDTO::fromSummary)
+                .collect(Collectors.toList());
+        return includeCast ? withCast(dtos) : dtos;
     }
 
+    /**
+     * Looks the shows up {@link #CAST_BATCH_SIZE} ids at a time. Unknown ids are absent from the result.
+     */
     @Override
-    public List<ShowDTO> findAllShowsWithDetails() {
-        return showRepository.findAll().stream()
-                .map(this::convertToShowDTO)
+    public Map<UUID, ShowDTO> findShowDTOsByIds(Collection<UUID> ids, boolean includeCast) {
+        List<UUID> pending = List.copyOf(ids);
+        Map<UUID, ShowDTO> result = new HashMap<>(pending.size());
+        for (int from = 0; from < pending.size(); from += CAST_BATCH_SIZE) {
+            List<UUID> page = pending.subList(from, Math.min(from + CAST_BATCH_SIZE, pending.size()));
+            for (ShowDTO dto : toShowDTOs(showRepository.findSummariesByIdIn(page), includeCast)) {
+                result.put(dto.id(), dto);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<ShowDTO> findUpcomingShowDTOs(LocalDateTime now, boolean includeCast) {
+        if (scheduleIndex != null) {
+            Optional<List<ShowSummary>> indexed = scheduleIndex.findUpcoming(now);
+            if (indexed.isPresent()) {
+                return toShowDTOs(indexed.get(), includeCast);
+            }
+        }
+        return toShowDTOs(showRepository.findUpcomingShowSummaries(now), includeCast);
+    }
+
+    @Override
+    public List<ShowDTO> findShowDTOsByVenueAndDateRange(String venue, LocalDateTime start, LocalDateTime end,
+                                                         boolean includeCast) {
+        if (scheduleIndex != null) {
+            Optional<List<ShowSummary>> indexed = scheduleIndex.findByVenueAndDateRange(venue, start, end);
+            if (indexed.isPresent()) {
+                return toShowDTOs(indexed.get(), includeCast);
+            }
+        }
+        return toShowDTOs(showRepository.findSummariesByVenueAndDateRange(venue, start, end), includeCast);
+    }
+
+    @Override
+    public List<ShowDTO> findConflicts(String venue, LocalDateTime start, LocalDateTime end, boolean includeCast) {
+        List<ShowSummary> shows = showRepository.findSummariesByIdIn(conflictDetector.findVenueConflicts(venue, start, end))
+                .stream()
+                .sorted(Comparator.comparing(ShowSummary::startTime).thenComparing(ShowSummary::id))
                 .collect(Collectors.toList());
+        return toShowDTOs(shows, includeCast);
     }
 
     @Override
+    @Transactional
     public ShowDTO createShow(ShowDTO showDTO) {
         Show show = showDTO.toEntity();
+        conflictDetector.checkShow(null, show.getVenue(), show.getStartTime(), show.getEndTime(), show.getStatus());
         Show savedShow = showRepository.save(show);
+        eventPublisher.publishEvent(ShowChangedEvent.saved(savedShow, true));
         return convertToShowDTO(savedShow);
     }
 
     @Override
+    @Transactional
     public ShowDTO updateShow(UUID id, ShowDTO showDTO) {
         return showRepository.findById(id)
                 .map(existingShow -> {
-                    Show updatedShow = showDTO.toEntity();
-                    updatedShow.setId(id);
-                    updatedShow.setCreatedAt(existingShow.getCreatedAt());
-                    updatedShow.setVersion(existingShow.getVersion());
+                    conflictDetector.checkShow(id, showDTO.venue(), showDTO.startTime(),
+                            showDTO.endTime(), showDTO.status());
                     
-                    // Preserve the cast
-                    updatedShow.setCast(existingShow.getCast());
+                    // Copied onto the managed show so that its cast is left untouched
+                    existingShow.setOperaId(showDTO.operaId());
+                    existingShow.setStartTime(showDTO.startTime());
+                    existingShow.setEndTime(showDTO.endTime());
+                    existingShow.setVenue(showDTO.venue());
+                    existingShow.setDescription(showDTO.description());
+                    existingShow.setImageUrl(showDTO.imageUrl());
+                    existingShow.setStatus(showDTO.status());
                     
-                    Show savedShow = showRepository.save(updatedShow);
+                    Show savedShow = showRepository.save(existingShow);
+                    eventPublisher.publishEvent(ShowChangedEvent.saved(savedShow, false));
                     return convertToShowDTO(savedShow);
                 })
                 .orElse(null);
     }
 
     @Override
-    public ShowDTO addCastMember(UUID showId, UUID singerId, String characterName, String role) {
-        return showRepository.findById(showId)
-                .flatMap(show -> singerRepository.findById(singerId)
-                        .map(singer -> {
-                            ShowSinger showSinger = new ShowSinger();
-                            showSinger.setShow(show);
-                            showSinger.setSinger(singer);
-                            showSinger.setCharacterName(characterName);
-                            showSinger.setRole(role);
-                            
-                            show.getCast().add(showSinger);
-                            Show updatedShow = showRepository.save(show);
-                            return convertToShowDTO(updatedShow);
-                        }))
-                .orElse(null);
+    @Transactional
+    public void deleteById(UUID id) {
+        // Loaded rather than checked for existence, so listeners learn where the show was
+        Show show = showRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Entity not found with id: " + id));
+        showRepository.delete(show);
+        eventPublisher.publishEvent(ShowChangedEvent.deleted(show));
     }
 
     @Override
-    public ShowDTO removeCastMember(UUID showId, UUID singerId) {
-        return showRepository.findById(showId)
-                .map(show -> {
-                    Optional<ShowSinger> showSingerOpt = show.getCast().stream()
-                            .filter(cs -> cs.getSinger().getId().equals(singerId))
-                            .findFirst();
-                            
-                    showSingerOpt.ifPresent(showSinger -> {
-                        show.getCast().remove(showSinger);
-                        showSingerRepository.delete(showSinger);
-                    });
-                    
-                    return convertToShowDTO(showRepository.save(show));
-                })
-                .orElse(null);
+    @Transactional
+    public ShowSingerDTO addCastMember(UUID showId, UUID singerId, String characterName, String role) {
+        Optional<ShowSummary> show = showRepository.findSummariesByIdIn(List.of(showId)).stream().findFirst();
+        if (show.isEmpty() || !singerRepository.existsById(singerId)) {
+            return null;
+        }
+        conflictDetector.checkCastMember(show.get(), singerId);
+        
+        UUID id = showSingerRepository.upsert(UUID.randomUUID(), showId, singerId, characterName, role);
+        eventPublisher.publishEvent(CastChangedEvent.added(showId, singerId));
+        
+        return new ShowSingerDTO(id, showId, singerId, characterName, role, null);
+    }
+
+    @Override
+    @Transactional
+    public boolean removeCastMember(UUID showId, UUID singerId) {
+        if (showSingerRepository.deleteByShowIdAndSingerId(showId, singerId) == 0) {
+            throw new EntityNotFoundException("Singer " + singerId + " is not in the cast of show " + showId);
+        }
+        eventPublisher.publishEvent(CastChangedEvent.removed(showId, singerId));
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public int removeCastMembers(UUID showId, Collection<UUID> singerIds) {
+        if (singerIds.isEmpty()) {
+            return 0;
+        }
+        List<UUID> removed = showSingerRepository.deleteByShowIdAndSingerIdIn(showId, singerIds);
+        removed.forEach(singerId -> eventPublisher.publishEvent(CastChangedEvent.removed(showId, singerId)));
+        return removed.size();
     }
 
     @Override
-    public ShowDTO updateCastMember(UUID showSingerId, String characterName, String role) {
-        return showSingerRepository.findById(showSingerId)
-                .map(showSinger -> {
-                    showSinger.setCharacterName(characterName);
-                    showSinger.setRole(role);
-                    ShowSinger updatedShowSinger = showSingerRepository.save(showSinger);
-                    return convertToShowDTO(updatedShowSinger.getShow());
+    @Transactional
+    public ShowSingerDTO updateCastMember(UUID showSingerId, String characterName, String role) {
+        if (showSingerRepository.updateDetails(showSingerId, characterName, role) == 0) {
+            return null;
+        }
+        return showSingerRepository.findSummaryById(showSingerId)
+                .map(summary -> {
+                    eventPublisher.publishEvent(CastChangedEvent.updated(summary.showId(), summary.singerId()));
+                    return ShowSingerDTO.fromSummary(summary);
                 })
                 .orElse(null);
     }
@@ -153,35 +312,28 @@ public class ShowServiceImpl extends BaseServiceImpl<Show, UUID, ShowRepository>
     private ShowDTO convertToShowDTO(Show show) {
         if (show == null) return null;
         
-        ShowDTO dto = ShowDTO.fromEntity(show);
-        
-        // Fetch opera details from Opera Service
-        try {
-            Opera opera = operaServiceClient.getOperaById(show.getOperaId().toString());
-            if (opera != null) {
-                dto.setOpera(OperaDTO.fromOpera(opera));
+        // Opera details are resolved lazily and in bulk by OperaDataLoader
+        return withCast(List.of(ShowDTO.fromEntity(show))).get(0);
+    }
+
+    /**
+     * Copies of the shows with their cast, loaded for each page of {@link #CAST_BATCH_SIZE}
+     * shows with one query instead of one per show. Each cast keeps the query's order.
+     */
+    private List<ShowDTO> withCast(List<ShowDTO> dtos) {
+        List<ShowDTO> result = new ArrayList<>(dtos.size());
+        for (int from = 0; from < dtos.size(); from += CAST_BATCH_SIZE) {
+            List<ShowDTO> page = dtos.subList(from, Math.min(from + CAST_BATCH_SIZE, dtos.size()));
+            Map<UUID, List<ShowSingerDTO>> castByShowId = showSingerRepository
+                    .findSummariesByShowIdIn(page.stream().map(ShowDTO::id).collect(Collectors.toList()))
+                    .stream()
+                    .collect(Collectors.groupingBy(CastMemberSummary::showId,
+                            Collectors.mapping(ShowSingerDTO::fromSummary, Collectors.toUnmodifiableList())));
+            
+            for (ShowDTO dto : page) {
+                result.add(dto.withCast(castByShowId.getOrDefault(dto.id(), List.of())));
             }
-        } catch (Exception e) {
-            // Log error but don't fail the request
-            // In a production environment, you might want to use a proper logger
-            System.err.println("Error fetching opera details: " + e.getMessage());
         }
-        
-        // Load and set cast members
-        List<ShowSinger> cast = showSingerRepository.findWithSingerByShowId(show.getId());
-        dto.setCast(cast.stream()
-                .map(cs -> {
-                    ShowSingerDTO csDto = new ShowSingerDTO();
-                    csDto.setId(cs.getId());
-                    csDto.setShowId(cs.getShow().getId());
-                    csDto.setSingerId(cs.getSinger().getId());
-                    csDto.setCharacterName(cs.getCharacterName());
-                    csDto.setRole(cs.getRole());
-                    csDto.setSinger(SingerDTO.fromEntity(cs.getSinger()));
-                    return csDto;
-                })
-                .collect(Collectors.toSet()));
-        
-        return dto;
+        return result;
     }
 }
@@ -1,22 +1,38 @@
 package com.opera.shows.service;
 
 import com.opera.shows.model.Singer;
+import com.opera.shows.service.dto.ShowSingerDTO;
+import com.opera.shows.service.dto.SingerCursor;
 import com.opera.shows.service.dto.SingerDTO;
+import com.opera.shows.service.dto.SingerSummary;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface SingerService extends BaseService<Singer, UUID> {
-    List<Singer> findByLastNameContaining(String lastName);
+    // Ranked, accent- and case-insensitive search over first and last names
+    List<SingerSummary> searchSingers(String term, int limit, int offset);
     List<Singer> findByNationality(String nationality);
     List<Singer> findByVoiceType(Singer.VoiceType voiceType);
     List<Singer> findBornBetween(LocalDate startDate, LocalDate endDate);
     List<Singer> findSingersByOperaId(UUID operaId);
     
+    // Keyset pagination, ordered by (lastName, id); a null cursor starts at the beginning
+    Slice<SingerSummary> findSingersPage(SingerCursor after, int size);
+    long countSingers();
+    
     // DTO methods
     SingerDTO findSingerWithDetails(UUID id);
     List<SingerDTO> findAllSingersWithDetails();
+    List<SingerSummary> findSummariesByOperaId(UUID operaId);
+    List<SingerSummary> findSummariesByVoiceType(Singer.VoiceType voiceType);
+    List<SingerDTO> toSingerDTOs(List<SingerSummary> singers);
+    // Show appearances of a batch of singers, keyed by singer id
+    Map<UUID, List<ShowSingerDTO>> findAppearancesBySingerIds(Collection<UUID> singerIds);
     SingerDTO createSinger(SingerDTO singerDTO);
     SingerDTO updateSinger(UUID id, SingerDTO singerDTO);
 }
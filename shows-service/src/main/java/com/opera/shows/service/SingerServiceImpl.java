@@ -1,26 +1,41 @@
 package com.opera.shows.service;
 
 import com.opera.shows.model.Singer;
-import com.opera.shows.model.ShowSinger;
 import com.opera.shows.repository.SingerRepository;
 import com.opera.shows.repository.ShowSingerRepository;
+import com.opera.shows.service.dto.CastMemberSummary;
+import com.opera.shows.service.dto.SingerCursor;
 import com.opera.shows.service.dto.SingerDTO;
+import com.opera.shows.service.dto.SingerSummary;
 import com.opera.shows.service.dto.ShowSingerDTO;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
-@Transactional
+@Transactional(readOnly = true)
 public class SingerServiceImpl extends BaseServiceImpl<Singer, UUID, SingerRepository> 
         implements SingerService {
 
+    static final int MIN_SEARCH_TERM_LENGTH = 3;
+
+    /**
+     * Number of singers whose appearances are fetched by a single IN query.
+     */
+    private static final int APPEARANCE_BATCH_SIZE = 500;
+
     private final SingerRepository singerRepository;
     private final ShowSingerRepository showSingerRepository;
 
@@ -31,9 +46,28 @@ public class SingerServiceImpl extends BaseServiceImpl<Singer, UUID, SingerRepos
         this.showSingerRepository = showSingerRepository;
     }
 
+    /**
+     * Terms shorter than {@link #MIN_SEARCH_TERM_LENGTH} characters match too many singers to be
+     * useful, and a {@code LIKE} pattern needs a three-character run to yield a trigram, so shorter
+     * terms could only be answered by scanning the whole index.
+     */
     @Override
-    public List<Singer> findByLastNameContaining(String lastName) {
-        return singerRepository.findByLastNameContainingIgnoreCase(lastName);
+    public List<SingerSummary> searchSingers(String term, int limit, int offset) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset must not be negative");
+        }
+        String trimmed = term == null ? "" : term.trim();
+        if (trimmed.length() < MIN_SEARCH_TERM_LENGTH) {
+            return List.of();
+        }
+        String pattern = trimmed.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        List<UUID> rankedIds = singerRepository.searchIdsByName(trimmed, pattern, limit, offset);
+        Map<UUID, SingerSummary> byId = singerRepository.findSummariesByIdIn(rankedIds).stream()
+                .collect(Collectors.toMap(SingerSummary::id, Function.identity()));
+        return rankedIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -56,61 +90,101 @@ public class SingerServiceImpl extends BaseServiceImpl<Singer, UUID, SingerRepos
         return singerRepository.findSingersByOperaId(operaId);
     }
 
+    @Override
+    public Slice<SingerSummary> findSingersPage(SingerCursor after, int size) {
+        PageRequest page = PageRequest.of(0, size);
+        if (after == null) {
+            return singerRepository.findFirstPage(page);
+        }
+        return singerRepository.findPageAfter(after.lastName(), after.id(), page);
+    }
+
+    @Override
+    public long countSingers() {
+        return singerRepository.count();
+    }
+
     @Override
     public SingerDTO findSingerWithDetails(UUID id) {
-        return singerRepository.findById(id)
-                .map(this::convertToSingerDTO)
-                .orElse(null);
+        List<SingerDTO> dtos = toSingerDTOs(singerRepository.findSummariesByIdIn(List.of(id)));
+        return dtos.isEmpty() ? null : dtos.get(0);
     }
 
     @Override
     public List<SingerDTO> findAllSingersWithDetails() {
-        return singerRepository.findAll().stream()
-                .map(this::convertToSingerDTO)
+        return toSingerDTOs(singerRepository.findAllSummaries());
+    }
+
+    @Override
+    public List<SingerSummary> findSummariesByOperaId(UUID operaId) {
+        return singerRepository.findSummariesByOperaId(operaId);
+    }
+
+    @Override
+    public List<SingerSummary> findSummariesByVoiceType(Singer.VoiceType voiceType) {
+        return singerRepository.findSummariesByVoiceType(voiceType);
+    }
+
+    /**
+     * Builds detail DTOs from projected rows, so list queries never load
+     * managed entities. Show appearances are resolved separately, see
+     * {@link #findAppearancesBySingerIds}.
+     */
+    @Override
+    public List<SingerDTO> toSingerDTOs(List<SingerSummary> singers) {
+        return singers.stream()
+                .map(SingerDTO::fromSummary)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Loads the show appearances of each page of {@link #APPEARANCE_BATCH_SIZE}
+     * singers with one query instead of one per singer. Every requested id is
+     * present in the result, singers without appearances mapping to an empty list.
+     * The appearances carry no singer; it is the one they were requested for.
+     */
     @Override
+    public Map<UUID, List<ShowSingerDTO>> findAppearancesBySingerIds(Collection<UUID> singerIds) {
+        List<UUID> ids = List.copyOf(singerIds);
+        Map<UUID, List<ShowSingerDTO>> result = new HashMap<>(ids.size());
+        for (int from = 0; from < ids.size(); from += APPEARANCE_BATCH_SIZE) {
+            List<UUID> page = ids.subList(from, Math.min(from + APPEARANCE_BATCH_SIZE, ids.size()));
+            Map<UUID, List<ShowSingerDTO>> appearancesBySingerId = showSingerRepository
+                    .findAppearancesBySingerIdIn(page)
+                    .stream()
+                    .collect(Collectors.groupingBy(CastMemberSummary::singerId,
+                            Collectors.mapping(ShowSingerDTO::fromSummary, Collectors.toList())));
+            for (UUID id : page) {
+                result.put(id, appearancesBySingerId.getOrDefault(id, List.of()));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    @Transactional
     public SingerDTO createSinger(SingerDTO singerDTO) {
         Singer singer = singerDTO.toEntity();
         Singer savedSinger = singerRepository.save(singer);
-        return convertToSingerDTO(savedSinger);
+        return SingerDTO.fromEntity(savedSinger);
     }
 
     @Override
+    @Transactional
     public SingerDTO updateSinger(UUID id, SingerDTO singerDTO) {
         return singerRepository.findById(id)
                 .map(existingSinger -> {
-                    Singer updatedSinger = singerDTO.toEntity();
-                    updatedSinger.setId(id);
-                    updatedSinger.setCreatedAt(existingSinger.getCreatedAt());
-                    updatedSinger.setVersion(existingSinger.getVersion());
-                    Singer savedSinger = singerRepository.save(updatedSinger);
-                    return convertToSingerDTO(savedSinger);
+                    // Copied onto the managed singer so that its appearances are left untouched
+                    existingSinger.setFirstName(singerDTO.firstName());
+                    existingSinger.setLastName(singerDTO.lastName());
+                    existingSinger.setDateOfBirth(singerDTO.dateOfBirth());
+                    existingSinger.setNationality(singerDTO.nationality());
+                    existingSinger.setBio(singerDTO.bio());
+                    existingSinger.setImageUrl(singerDTO.imageUrl());
+                    existingSinger.setVoiceType(singerDTO.voiceType());
+                    Singer savedSinger = singerRepository.save(existingSinger);
+                    return SingerDTO.fromEntity(savedSinger);
                 })
                 .orElse(null);
     }
-
-    private SingerDTO convertToSingerDTO(Singer singer) {
-        if (singer == null) return null;
-        
-        SingerDTO dto = SingerDTO.fromEntity(singer);
-        
-        // Load and set show appearances
-        List<ShowSinger> appearances = showSingerRepository.findWithShowBySingerId(singer.getId());
-        Set<ShowSingerDTO> appearanceDTOs = appearances.stream()
-                .map(appearance -> {
-                    ShowSingerDTO appDto = new ShowSingerDTO();
-                    appDto.setId(appearance.getId());
-                    appDto.setShowId(appearance.getShow().getId());
-                    appDto.setSingerId(appearance.getSinger().getId());
-                    appDto.setCharacterName(appearance.getCharacterName());
-                    appDto.setRole(appearance.getRole());
-                    return appDto;
-                })
-                .collect(Collectors.toSet());
-        
-        dto.setShowAppearances(appearanceDTOs);
-        return dto;
-    }
 }
@@ -0,0 +1,373 @@
+package com.opera.shows.service.conflict;
+
+import com.opera.shows.exception.BookingConflictException;
+import com.opera.shows.model.Show;
+import com.opera.shows.repository.ShowRepository;
+import com.opera.shows.repository.ShowSingerRepository;
+import com.opera.shows.service.dto.CastAssignment;
+import com.opera.shows.service.dto.ShowBooking;
+import com.opera.shows.service.dto.ShowSummary;
+import com.opera.shows.service.event.CastChangedEvent;
+import com.opera.shows.service.event.ShowChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Detects venue and singer double-bookings with one {@link IntervalTree} per venue and per singer.
+ * <p>
+ * The trees hold every show that occupies its slot (anything but {@link #NON_BLOCKING} statuses)
+ * and had not ended at the last rebuild. They are loaded from the database at startup, retried every
+ * {@code shows.conflicts.retry-interval} until that succeeds, and reloaded every
+ * {@code shows.conflicts.rebuild-interval}, always in a read-only transaction of their own and never
+ * from a request. Until the first load succeeds checks pass with a warning. In between they follow {@link ShowChangedEvent} and {@link CastChangedEvent} after
+ * commit, so a check sees everything this instance has committed. Two transactions checking the same slot at
+ * the same moment can still both pass; the check is a guard against mistakes, not a lock.
+ */
+@Component
+public class BookingConflictDetector {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingConflictDetector.class);
+
+    /**
+     * Statuses whose shows do not hold on to their venue or singers.
+     */
+    public static final Set<Show.ShowStatus> NON_BLOCKING =
+            EnumSet.of(Show.ShowStatus.CANCELLED, Show.ShowStatus.POSTPONED);
+
+    /**
+     * Number of conflicting shows listed in a validation error.
+     */
+    private static final int MAX_REPORTED_CONFLICTS = 10;
+
+    private final ShowRepository showRepository;
+    private final ShowSingerRepository showSingerRepository;
+    private final TransactionTemplate rebuildTransaction;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean built;
+    private final AtomicBoolean warnedNotBuilt = new AtomicBoolean();
+
+    // Guarded by lock
+    private State state = new State();
+    private List<Object> pendingDuringRebuild;
+
+    public BookingConflictDetector(ShowRepository showRepository, ShowSingerRepository showSingerRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.showRepository = showRepository;
+        this.showSingerRepository = showSingerRepository;
+        // Kept out of the caller's transaction, whose persistence context would otherwise hold every row read
+        this.rebuildTransaction = new TransactionTemplate(transactionManager);
+        this.rebuildTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.rebuildTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Ids of the shows booked at {@code venue} that overlap {@code [start, end)}, in start time order.
+     */
+    public List<UUID> findVenueConflicts(String venue, LocalDateTime start, LocalDateTime end) {
+        if (!checkBuilt()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            IntervalTree atVenue = state.byVenue.get(venue);
+            return atVenue == null ? List.of() : atVenue.overlapping(start, end);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Verifies that a new or rescheduled show would not overlap another show at its venue,
+     * nor another show any of its current cast is singing in.
+     *
+     * @param showId the show being updated, or {@code null} for a new show
+     * @throws BookingConflictException if the slot is taken
+     */
+    public void checkShow(UUID showId, String venue, LocalDateTime start, LocalDateTime end,
+                          Show.ShowStatus status) {
+        if (status == null || NON_BLOCKING.contains(status)) {
+            return;
+        }
+        if (!checkBuilt()) {
+            return;
+        }
+        lock.readLock().lock();
+        try {
+            IntervalTree atVenue = venue == null ? null : state.byVenue.get(venue);
+            if (atVenue != null) {
+                List<UUID> conflicts = atVenue.overlapping(start, end, showId, MAX_REPORTED_CONFLICTS);
+                if (!conflicts.isEmpty()) {
+                    throw new BookingConflictException(
+                            "Venue " + venue + " is already booked between " + start + " and " + end
+                                    + " by show(s) " + conflicts, conflicts);
+                }
+            }
+            if (showId != null) {
+                for (UUID singerId : state.castByShow.getOrDefault(showId, Set.of())) {
+                    checkSinger(singerId, showId, start, end);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Verifies that {@code singerId} is not already cast in a show overlapping {@code show}.
+     *
+     * @throws BookingConflictException if the singer is already booked
+     */
+    public void checkCastMember(Show show, UUID singerId) {
+        checkCastMember(show.getId(), show.getStartTime(), show.getEndTime(), show.getStatus(), singerId);
+    }
+
+    /**
+     * Same as {@link #checkCastMember(Show, UUID)} for a show read as a projection.
+     */
+    public void checkCastMember(ShowSummary show, UUID singerId) {
+        checkCastMember(show.id(), show.startTime(), show.endTime(), show.status(), singerId);
+    }
+
+    private void checkCastMember(UUID showId, LocalDateTime start, LocalDateTime end, Show.ShowStatus status,
+                                 UUID singerId) {
+        if (NON_BLOCKING.contains(status) || !checkBuilt()) {
+            return;
+        }
+        lock.readLock().lock();
+        try {
+            checkSinger(singerId, showId, start, end);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void checkSinger(UUID singerId, UUID showId, LocalDateTime start, LocalDateTime end) {
+        IntervalTree forSinger = state.bySinger.get(singerId);
+        if (forSinger == null) {
+            return;
+        }
+        List<UUID> conflicts = forSinger.overlapping(start, end, showId, MAX_REPORTED_CONFLICTS);
+        if (!conflicts.isEmpty()) {
+            throw new BookingConflictException(
+                    "Singer " + singerId + " is already cast between " + start + " and " + end
+                            + " in show(s) " + conflicts, conflicts);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        scheduledRebuild();
+    }
+
+    @Scheduled(initialDelayString = "${shows.conflicts.rebuild-interval:PT15M}",
+               fixedDelayString = "${shows.conflicts.rebuild-interval:PT15M}")
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Rebuilding the booking conflict trees failed, keeping the previous ones", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${shows.conflicts.retry-interval:PT30S}")
+    public void retryInitialBuild() {
+        if (!built) {
+            scheduledRebuild();
+        }
+    }
+
+    /**
+     * Reloads the bookings of all shows ending from now on. Changes committed while the rows
+     * are being read are replayed on top.
+     */
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        State fresh = new State();
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            rebuildTransaction.executeWithoutResult(status -> {
+                for (CastAssignment assignment : showSingerRepository.findAssignmentsEndingAfter(now)) {
+                    fresh.addCast(assignment.showId(), assignment.singerId());
+                }
+                for (ShowBooking booking : showRepository.findBookingsEndingAfter(now, NON_BLOCKING)) {
+                    fresh.putShow(booking);
+                }
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild.forEach(fresh::apply);
+            pendingDuringRebuild = null;
+            state = fresh;
+            built = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Booking conflict trees rebuilt with {} shows", fresh.bookings.size());
+    }
+
+    /**
+     * Whether the trees have been loaded. Requests never load them: that would take a second pooled
+     * connection while holding their own, and stall other writers behind them.
+     */
+    private boolean checkBuilt() {
+        if (built) {
+            return true;
+        }
+        if (warnedNotBuilt.compareAndSet(false, true)) {
+            log.warn("Booking conflict trees not built yet, skipping conflict checks until they are");
+        }
+        return false;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onShowChanged(ShowChangedEvent event) {
+        record(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCastChanged(CastChangedEvent event) {
+        record(event);
+    }
+
+    private void record(Object event) {
+        lock.writeLock().lock();
+        try {
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+            }
+            state.apply(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private record Booking(String venue, LocalDateTime start, LocalDateTime end) {
+    }
+
+    /**
+     * One generation of the trees. Cast membership is tracked for every show so that a
+     * show becoming bookable again re-enters its singers' trees.
+     */
+    private static final class State {
+
+        private final Map<UUID, Booking> bookings = new HashMap<>();
+        private final Map<String, IntervalTree> byVenue = new HashMap<>();
+        private final Map<UUID, IntervalTree> bySinger = new HashMap<>();
+        private final Map<UUID, Set<UUID>> castByShow = new HashMap<>();
+
+        private void apply(Object event) {
+            if (event instanceof ShowChangedEvent showChanged) {
+                if (showChanged.type() == ShowChangedEvent.Type.DELETED) {
+                    removeBooking(showChanged.showId());
+                    castByShow.remove(showChanged.showId());
+                } else {
+                    putShow(ShowBooking.from(showChanged.show()));
+                }
+            } else if (event instanceof CastChangedEvent castChanged) {
+                if (castChanged.type() == CastChangedEvent.Type.ADDED) {
+                    addCast(castChanged.showId(), castChanged.singerId());
+                } else if (castChanged.type() == CastChangedEvent.Type.REMOVED) {
+                    removeCast(castChanged.showId(), castChanged.singerId());
+                }
+            }
+        }
+
+        private void putShow(ShowBooking show) {
+            UUID showId = show.id();
+            removeBooking(showId);
+            if (NON_BLOCKING.contains(show.status())) {
+                return;
+            }
+            Booking booking = new Booking(show.venue(), show.startTime(), show.endTime());
+            bookings.put(showId, booking);
+            if (booking.venue() != null) {
+                byVenue.computeIfAbsent(booking.venue(), venue -> new IntervalTree())
+                        .insert(showId, booking.start(), booking.end());
+            }
+            for (UUID singerId : castByShow.getOrDefault(showId, Set.of())) {
+                bySinger.computeIfAbsent(singerId, id -> new IntervalTree())
+                        .insert(showId, booking.start(), booking.end());
+            }
+        }
+
+        private void removeBooking(UUID showId) {
+            Booking booking = bookings.remove(showId);
+            if (booking == null) {
+                return;
+            }
+            if (booking.venue() != null) {
+                removeFrom(byVenue, booking.venue(), showId, booking.start());
+            }
+            for (UUID singerId : castByShow.getOrDefault(showId, Set.of())) {
+                removeFrom(bySinger, singerId, showId, booking.start());
+            }
+        }
+
+        private void addCast(UUID showId, UUID singerId) {
+            castByShow.computeIfAbsent(showId, id -> new HashSet<>()).add(singerId);
+            Booking booking = bookings.get(showId);
+            if (booking != null) {
+                bySinger.computeIfAbsent(singerId, id -> new IntervalTree())
+                        .insert(showId, booking.start(), booking.end());
+            }
+        }
+
+        private void removeCast(UUID showId, UUID singerId) {
+            Set<UUID> cast = castByShow.get(showId);
+            if (cast != null) {
+                cast.remove(singerId);
+            }
+            Booking booking = bookings.get(showId);
+            if (booking != null) {
+                removeFrom(bySinger, singerId, showId, booking.start());
+            }
+        }
+
+        private static <K> void removeFrom(Map<K, IntervalTree> trees, K key, UUID showId, LocalDateTime start) {
+            IntervalTree tree = trees.get(key);
+            if (tree != null) {
+                tree.remove(showId, start);
+                if (tree.size() == 0) {
+                    trees.remove(key);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.opera.shows.service.conflict;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Set of half-open time intervals {@code [start, end)} identified by show id.
+ * <p>
+ * Implemented as a treap ordered by {@code (start, id)} where every node also records the
+ * latest end time in its subtree, so a subtree that ends before the queried start can be
+ * skipped entirely. Insert, remove and "is there any overlap" run in expected O(log n).
+ * Pruning by end time alone may walk a whole root-to-leaf path per result, so listing
+ * k overlaps costs expected O((k + 1) log n) rather than the O(log n + k) of a full interval tree.
+ * <p>
+ * Not thread-safe; {@link BookingConflictDetector} guards access.
+ */
+final class IntervalTree {
+
+    private Node root;
+    private int size;
+
+    /**
+     * Adds the interval, or does nothing when {@code id} is already present with this start time.
+     */
+    void insert(UUID id, LocalDateTime start, LocalDateTime end) {
+        root = insert(root, new Node(id, start, end));
+    }
+
+    void remove(UUID id, LocalDateTime start) {
+        root = remove(root, id, start);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Ids of all intervals overlapping {@code [start, end)}, in start time order.
+     */
+    List<UUID> overlapping(LocalDateTime start, LocalDateTime end) {
+        List<UUID> result = new ArrayList<>();
+        collect(root, start, end, null, result, Integer.MAX_VALUE);
+        return result;
+    }
+
+    /**
+     * Ids of up to {@code limit} intervals overlapping {@code [start, end)}, ignoring {@code excludeId}.
+     */
+    List<UUID> overlapping(LocalDateTime start, LocalDateTime end, UUID excludeId, int limit) {
+        List<UUID> result = new ArrayList<>();
+        collect(root, start, end, excludeId, result, limit);
+        return result;
+    }
+
+    private static void collect(Node node, LocalDateTime start, LocalDateTime end, UUID excludeId,
+                                List<UUID> result, int limit) {
+        if (node == null || result.size() >= limit || !node.maxEnd.isAfter(start)) {
+            return;
+        }
+        collect(node.left, start, end, excludeId, result, limit);
+        // Everything to the right starts no earlier than this node
+        if (!node.start.isBefore(end) || result.size() >= limit) {
+            return;
+        }
+        if (node.end.isAfter(start) && !node.id.equals(excludeId)) {
+            result.add(node.id);
+        }
+        collect(node.right, start, end, excludeId, result, limit);
+    }
+
+    private Node insert(Node node, Node added) {
+        if (node == null) {
+            size++;
+            return added;
+        }
+        int cmp = compare(added.start, added.id, node);
+        if (cmp == 0) {
+            return node;
+        }
+        if (cmp < 0) {
+            node.left = insert(node.left, added);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, added);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        node.update();
+        return node;
+    }
+
+    private Node remove(Node node, UUID id, LocalDateTime start) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(start, id, node);
+        if (cmp < 0) {
+            node.left = remove(node.left, id, start);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, id, start);
+        } else {
+            size--;
+            return merge(node.left, node.right);
+        }
+        node.update();
+        return node;
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private static int compare(LocalDateTime start, UUID id, Node node) {
+        int cmp = start.compareTo(node.start);
+        return cmp != 0 ? cmp : id.compareTo(node.id);
+    }
+
+    private static final class Node {
+        private final UUID id;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private LocalDateTime maxEnd;
+        private Node left;
+        private Node right;
+
+        private Node(UUID id, LocalDateTime start, LocalDateTime end) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+        }
+
+        private void update() {
+            maxEnd = end;
+            if (left != null && left.maxEnd.isAfter(maxEnd)) {
+                maxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd.isAfter(maxEnd)) {
+                maxEnd = right.maxEnd;
+            }
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.opera.shows.service.dto;
+
+import java.util.UUID;
+
+/**
+ * A singer's place in a show's cast, without the character details.
+ */
+public record CastAssignment(UUID showId, UUID singerId) {
+}
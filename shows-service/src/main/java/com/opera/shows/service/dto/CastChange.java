@@ -0,0 +1,15 @@
+package com.opera.shows.service.dto;
+
+import com.opera.shows.service.event.CastChangedEvent;
+
+import java.util.UUID;
+
+/**
+ * A committed cast change as pushed to subscribers.
+ */
+public record CastChange(CastChangedEvent.Type type, UUID showId, UUID singerId) {
+
+    public static CastChange from(CastChangedEvent event) {
+        return new CastChange(event.type(), event.showId(), event.singerId());
+    }
+}
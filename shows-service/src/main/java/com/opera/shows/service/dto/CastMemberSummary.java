@@ -0,0 +1,35 @@
+package com.opera.shows.service.dto;
+
+import com.opera.shows.model.Singer;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * One cast entry with its singer's scalar columns, read in a single projection query.
+ */
+public record CastMemberSummary(
+        UUID id,
+        UUID showId,
+        UUID singerId,
+        String characterName,
+        String role,
+        SingerSummary singer) {
+
+    /**
+     * Flat constructor used by JPQL constructor expressions.
+     */
+    public CastMemberSummary(UUID id, UUID showId, String characterName, String role,
+                             UUID singerId, String firstName, String lastName, LocalDate dateOfBirth,
+                             String nationality, String bio, String imageUrl, Singer.VoiceType voiceType) {
+        this(id, showId, singerId, characterName, role, new SingerSummary(
+                singerId, firstName, lastName, dateOfBirth, nationality, bio, imageUrl, voiceType));
+    }
+
+    /**
+     * For rows read from a singer's side, whose columns the caller already has.
+     */
+    public CastMemberSummary(UUID id, UUID showId, UUID singerId, String characterName, String role) {
+        this(id, showId, singerId, characterName, role, null);
+    }
+}
@@ -0,0 +1,22 @@
+package com.opera.shows.service.dto;
+
+import com.opera.shows.model.Show;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The slot a show occupies: its venue, times and status, without any other column.
+ */
+public record ShowBooking(
+        UUID id,
+        String venue,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        Show.ShowStatus status) {
+
+    public static ShowBooking from(Show show) {
+        return new ShowBooking(show.getId(), show.getVenue(), show.getStartTime(), show.getEndTime(),
+                show.getStatus());
+    }
+}
@@ -0,0 +1,17 @@
+package com.opera.shows.service.dto;
+
+import com.opera.shows.service.event.ShowChangedEvent;
+
+import java.util.UUID;
+
+/**
+ * A committed show change as pushed to subscribers.
+ *
+ * @param show the show's scalar fields after the change, or its last state when deleted
+ */
+public record ShowChange(ShowChangedEvent.Type type, UUID showId, ShowDTO show) {
+
+    public static ShowChange from(ShowChangedEvent event) {
+        return new ShowChange(event.type(), event.showId(), ShowDTO.fromEntity(event.show()));
+    }
+}
@@ -0,0 +1,10 @@
+package com.opera.shows.service.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Position in the (startTime, id) ordering used to page through shows.
+ */
+public record ShowCursor(LocalDateTime startTime, UUID id) {
+}
@@ -1,55 +1,60 @@
 package com.opera.shows.service.dto;
 
 import com.opera.shows.model.Show;
-import lombok.Data;
+import com.opera.shows.service.mapper.ShowMapper;
 
 import java.time.LocalDateTime;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
-@Data
-public class ShowDTO {
-    private UUID id;
-    private UUID operaId;
-    private LocalDateTime startTime;
-    private LocalDateTime endTime;
-    private String venue;
-    private String description;
-    private String imageUrl;
-    private Show.ShowStatus status;
-    private Set<ShowSingerDTO> cast = new HashSet<>();
-    
-    // For GraphQL Federation
-    private OperaDTO opera;
-    
+/**
+ * Equal by id only, so hashing a show never walks its cast.
+ * The opera is not carried here; it is resolved in bulk by {@code OperaDataLoader}.
+ */
+public record ShowDTO(
+        UUID id,
+        UUID operaId,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        String venue,
+        String description,
+        String imageUrl,
+        Show.ShowStatus status,
+        List<ShowSingerDTO> cast) {
+
+    public ShowDTO {
+        cast = cast == null ? List.of() : List.copyOf(cast);
+    }
+
     public static ShowDTO fromEntity(Show show) {
-        if (show == null) return null;
-        
-        ShowDTO dto = new ShowDTO();
-        dto.setId(show.getId());
-        dto.setOperaId(show.getOperaId());
-        dto.setStartTime(show.getStartTime());
-        dto.setEndTime(show.getEndTime());
-        dto.setVenue(show.getVenue());
-        dto.setDescription(show.getDescription());
-        dto.setImageUrl(show.getImageUrl());
-        dto.setStatus(show.getStatus());
-        
-        return dto;
+        return ShowMapper.INSTANCE.toDto(show);
     }
-    
+
+    public static ShowDTO fromSummary(ShowSummary summary) {
+        if (summary == null) return null;
+
+        return new ShowDTO(summary.id(), summary.operaId(), summary.startTime(), summary.endTime(),
+                summary.venue(), summary.description(), summary.imageUrl(), summary.status(), List.of());
+    }
+
+    public ShowDTO withCast(List<ShowSingerDTO> cast) {
+        return new ShowDTO(id, operaId, startTime, endTime, venue, description, imageUrl, status, cast);
+    }
+
     public Show toEntity() {
-        Show show = new Show();
-        show.setId(this.id);
-        show.setOperaId(this.operaId);
-        show.setStartTime(this.startTime);
-        show.setEndTime(this.endTime);
-        show.setVenue(this.venue);
-        show.setDescription(this.description);
-        show.setImageUrl(this.imageUrl);
-        show.setStatus(this.status);
-        
-        return show;
+        return ShowMapper.INSTANCE.toEntity(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ShowDTO)) return false;
+        return id != null && id.equals(((ShowDTO) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
     }
 }
@@ -1,41 +1,50 @@
 package com.opera.shows.service.dto;
 
 import com.opera.shows.model.ShowSinger;
-import lombok.Data;
+import com.opera.shows.service.mapper.ShowSingerMapper;
 
+import java.util.Objects;
 import java.util.UUID;
 
-@Data
-public class ShowSingerDTO {
-    private UUID id;
-    private UUID showId;
-    private UUID singerId;
-    private String characterName;
-    private String role;
-    
-    // For GraphQL
-    private SingerDTO singer;
-    
+/**
+ * Equal by id only, so hashing a cast member never walks the singer.
+ */
+public record ShowSingerDTO(
+        UUID id,
+        UUID showId,
+        UUID singerId,
+        String characterName,
+        String role,
+        SingerDTO singer) {
+
     public static ShowSingerDTO fromEntity(ShowSinger showSinger) {
-        if (showSinger == null) return null;
-        
-        ShowSingerDTO dto = new ShowSingerDTO();
-        dto.setId(showSinger.getId());
-        dto.setShowId(showSinger.getShow().getId());
-        dto.setSingerId(showSinger.getSinger().getId());
-        dto.setCharacterName(showSinger.getCharacterName());
-        dto.setRole(showSinger.getRole());
-        
-        return dto;
+        return ShowSingerMapper.INSTANCE.toDto(showSinger);
+    }
+
+    public static ShowSingerDTO fromSummary(CastMemberSummary summary) {
+        if (summary == null) return null;
+
+        return new ShowSingerDTO(summary.id(), summary.showId(), summary.singerId(), summary.characterName(),
+                summary.role(), SingerDTO.fromSummary(summary.singer()));
+    }
+
+    public ShowSingerDTO withSinger(SingerDTO singer) {
+        return new ShowSingerDTO(id, showId, singerId, characterName, role, singer);
     }
-    
+
     public ShowSinger toEntity() {
-        ShowSinger showSinger = new ShowSinger();
-        showSinger.setId(this.id);
-        // Note: show and singer references should be set separately
-        showSinger.setCharacterName(this.characterName);
-        showSinger.setRole(this.role);
-        
-        return showSinger;
+        return ShowSingerMapper.INSTANCE.toEntity(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ShowSingerDTO)) return false;
+        return id != null && id.equals(((ShowSingerDTO) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
     }
 }
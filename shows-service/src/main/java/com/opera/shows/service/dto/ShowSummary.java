@@ -0,0 +1,34 @@
+package com.opera.shows.service.dto;
+
+import com.opera.shows.model.Show;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Immutable copy of the scalar columns of a {@link Show}, without its cast.
+ */
+public record ShowSummary(
+        UUID id,
+        UUID operaId,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        String venue,
+        String description,
+        String imageUrl,
+        Show.ShowStatus status,
+        Long version) {
+
+    public static ShowSummary from(Show show) {
+        return new ShowSummary(
+                show.getId(),
+                show.getOperaId(),
+                show.getStartTime(),
+                show.getEndTime(),
+                show.getVenue(),
+                show.getDescription(),
+                show.getImageUrl(),
+                show.getStatus(),
+                show.getVersion());
+    }
+}
@@ -0,0 +1,9 @@
+package com.opera.shows.service.dto;
+
+import java.util.UUID;
+
+/**
+ * Position in the (lastName, id) ordering used to page through singers.
+ */
+public record SingerCursor(String lastName, UUID id) {
+}
@@ -0,0 +1,32 @@
+package com.opera.shows.service.dto;
+
+import com.opera.shows.model.Singer;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Immutable copy of the scalar columns of a {@link Singer}, without show appearances.
+ */
+public record SingerSummary(
+        UUID id,
+        String firstName,
+        String lastName,
+        LocalDate dateOfBirth,
+        String nationality,
+        String bio,
+        String imageUrl,
+        Singer.VoiceType voiceType) {
+
+    public static SingerSummary from(Singer singer) {
+        return new SingerSummary(
+                singer.getId(),
+                singer.getFirstName(),
+                singer.getLastName(),
+                singer.getDateOfBirth(),
+                singer.getNationality(),
+                singer.getBio(),
+                singer.getImageUrl(),
+                singer.getVoiceType());
+    }
+}
@@ -0,0 +1,26 @@
+package com.opera.shows.service.event;
+
+import java.util.UUID;
+
+/**
+ * Published by {@code ShowServiceImpl} when a singer is added to, updated in or removed from a show's cast.
+ * Like {@link ShowChangedEvent}, it should be consumed after the transaction commits.
+ */
+public record CastChangedEvent(Type type, UUID showId, UUID singerId) {
+
+    public enum Type {
+        ADDED, UPDATED, REMOVED
+    }
+
+    public static CastChangedEvent added(UUID showId, UUID singerId) {
+        return new CastChangedEvent(Type.ADDED, showId, singerId);
+    }
+
+    public static CastChangedEvent updated(UUID showId, UUID singerId) {
+        return new CastChangedEvent(Type.UPDATED, showId, singerId);
+    }
+
+    public static CastChangedEvent removed(UUID showId, UUID singerId) {
+        return new CastChangedEvent(Type.REMOVED, showId, singerId);
+    }
+}
@@ -0,0 +1,54 @@
+package com.opera.shows.service.event;
+
+import com.opera.shows.service.dto.CastChange;
+import com.opera.shows.service.dto.ShowChange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+/**
+ * Live stream of committed show and cast changes, backing the GraphQL subscriptions.
+ * <p>
+ * Changes are taken from {@link ShowChangedEvent} and {@link CastChangedEvent} once their
+ * transaction commits, converted once, and broadcast to the subscribers of the show's venue
+ * or of the show respectively. Only changes committed by this instance are seen.
+ */
+@Component
+public class ChangeFeed {
+
+    private final KeyedBroadcaster<String, ShowChange> showChanges;
+    private final KeyedBroadcaster<UUID, CastChange> castChanges;
+
+    public ChangeFeed(@Value("${shows.subscriptions.buffer-size:256}") int bufferSize) {
+        this.showChanges = new KeyedBroadcaster<>("show changes", bufferSize);
+        this.castChanges = new KeyedBroadcaster<>("cast changes", bufferSize);
+    }
+
+    /**
+     * Changes to shows at {@code venue}, or at any venue if {@code venue} is {@code null}.
+     * A show moved to another venue is reported under its new venue only.
+     */
+    public Flux<ShowChange> showChanges(String venue) {
+        return showChanges.subscribe(venue);
+    }
+
+    public Flux<CastChange> castChanges(UUID showId) {
+        return castChanges.subscribe(showId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onShowChanged(ShowChangedEvent event) {
+        ShowChange change = ShowChange.from(event);
+        String venue = change.show() == null ? null : change.show().venue();
+        showChanges.publish(venue, change);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCastChanged(CastChangedEvent event) {
+        castChanges.publish(event.showId(), CastChange.from(event));
+    }
+}
@@ -0,0 +1,107 @@
+package com.opera.shows.service.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fans values out to subscribers of one key, or of every key.
+ * <p>
+ * There is one hot sink per key that currently has subscribers, so publishing costs a map
+ * lookup plus one emission per interested subscriber, however many other keys are watched.
+ * Sinks are created on the first subscription to a key and dropped with the last one.
+ * <p>
+ * Each subscriber gets its own bounded buffer. A subscriber that falls more than
+ * {@code bufferSize} values behind loses the oldest ones instead of slowing down the
+ * publisher or the other subscribers.
+ */
+final class KeyedBroadcaster<K, V> {
+
+    private static final Logger log = LoggerFactory.getLogger(KeyedBroadcaster.class);
+
+    /**
+     * How long a publisher spins while another thread is emitting to the same sink.
+     */
+    private static final Duration CONTENDED_EMIT_TIMEOUT = Duration.ofMillis(100);
+
+    private final String name;
+    private final int bufferSize;
+    private final Map<K, Channel<V>> byKey = new ConcurrentHashMap<>();
+    private final Channel<V> all = new Channel<>();
+
+    KeyedBroadcaster(String name, int bufferSize) {
+        this.name = name;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Values published for {@code key} from now on, or for any key if {@code key} is {@code null}.
+     */
+    Flux<V> subscribe(K key) {
+        Flux<V> values = key == null ? all.sink.asFlux() : Flux.defer(() -> attach(key))
+                .doFinally(signal -> detach(key));
+        return values.onBackpressureBuffer(bufferSize,
+                dropped -> log.debug("Subscriber to {} is too slow, dropped {}", name, dropped),
+                BufferOverflowStrategy.DROP_OLDEST);
+    }
+
+    void publish(K key, V value) {
+        if (key != null) {
+            Channel<V> channel = byKey.get(key);
+            if (channel != null) {
+                emit(channel, value);
+            }
+        }
+        emit(all, value);
+    }
+
+    private void emit(Channel<V> channel, V value) {
+        if (!channel.emit(value)) {
+            log.warn("Dropped a change for subscribers to {}: the sink stayed busy for {}",
+                    name, CONTENDED_EMIT_TIMEOUT);
+        }
+    }
+
+    private Flux<V> attach(K key) {
+        // compute() runs under the key's lock, so a channel is never dropped between
+        // being handed out here and being subscribed to
+        return byKey.compute(key, (k, channel) -> {
+            Channel<V> result = channel == null ? new Channel<>() : channel;
+            result.subscribers++;
+            return result;
+        }).sink.asFlux();
+    }
+
+    private void detach(K key) {
+        byKey.computeIfPresent(key, (k, channel) -> --channel.subscribers == 0 ? null : channel);
+    }
+
+    private static final class Channel<V> {
+
+        // directBestEffort: a subscriber without demand misses the value, the others still get it
+        private final Sinks.Many<V> sink = Sinks.many().multicast().directBestEffort();
+
+        // Guarded by the map's per-key lock
+        private int subscribers;
+
+        /**
+         * False if the value was dropped because other threads kept the sink busy.
+         */
+        private boolean emit(V value) {
+            // Listeners run on the committing threads, so emissions can race; retry those for a
+            // bounded time. Having no subscriber at all is not an error.
+            try {
+                sink.emitNext(value, Sinks.EmitFailureHandler.busyLooping(CONTENDED_EMIT_TIMEOUT));
+                return true;
+            } catch (Sinks.EmissionException e) {
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.opera.shows.service.event;
+
+import com.opera.shows.model.Show;
+
+import java.util.UUID;
+
+/**
+ * Published by {@code ShowServiceImpl} whenever a show is created, updated or deleted.
+ * <p>
+ * Listeners that keep derived state in sync should use
+ * {@code @TransactionalEventListener(phase = AFTER_COMMIT)}: only then is the change
+ * durable and {@link #show()} carries its final, flushed state (including the version).
+ *
+ * @param show the saved entity, or for {@link Type#DELETED} its state before deletion
+ */
+public record ShowChangedEvent(Type type, UUID showId, Show show) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static ShowChangedEvent saved(Show show, boolean created) {
+        return new ShowChangedEvent(created ? Type.CREATED : Type.UPDATED, show.getId(), show);
+    }
+
+    public static ShowChangedEvent deleted(Show show) {
+        return new ShowChangedEvent(Type.DELETED, show.getId(), show);
+    }
+}
@@ -0,0 +1,104 @@
+package com.opera.shows.service.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.opera.shows.repository.ShowRepository;
+import com.opera.shows.repository.SingerRepository;
+import com.opera.shows.service.dto.ShowSummary;
+import com.opera.shows.service.dto.SingerSummary;
+import com.opera.shows.util.CsvWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Streams every show or singer to an output stream as NDJSON or CSV.
+ * <p>
+ * Rows are read through a server-side cursor in a read-only transaction and each entity is
+ * detached as soon as it has been written, so memory use does not depend on table size.
+ * Column names match the bulk import, so a show export can be imported again as is.
+ */
+@Service
+public class ExportService {
+
+    static final List<String> SHOW_COLUMNS = List.of(
+            "id", "operaId", "startTime", "endTime", "venue", "description", "imageUrl", "status");
+
+    static final List<String> SINGER_COLUMNS = List.of(
+            "id", "firstName", "lastName", "dateOfBirth", "nationality", "bio", "imageUrl", "voiceType");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ShowRepository showRepository;
+    private final SingerRepository singerRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectWriter jsonWriter;
+
+    public ExportService(ShowRepository showRepository,
+                         SingerRepository singerRepository,
+                         PlatformTransactionManager transactionManager,
+                         ObjectMapper objectMapper) {
+        this.showRepository = showRepository;
+        this.singerRepository = singerRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.jsonWriter = objectMapper.writer();
+    }
+
+    public void exportShows(ExportFormat format, OutputStream output) {
+        export(format, output, showRepository::streamAll, SHOW_COLUMNS, ShowSummary::from, show -> Arrays.asList(
+                show.getId(), show.getOperaId(), show.getStartTime(), show.getEndTime(), show.getVenue(),
+                show.getDescription(), show.getImageUrl(), show.getStatus()));
+    }
+
+    public void exportSingers(ExportFormat format, OutputStream output) {
+        export(format, output, singerRepository::streamAll, SINGER_COLUMNS, SingerSummary::from, singer -> Arrays.asList(
+                singer.getId(), singer.getFirstName(), singer.getLastName(), singer.getDateOfBirth(),
+                singer.getNationality(), singer.getBio(), singer.getImageUrl(), singer.getVoiceType()));
+    }
+
+    private <E> void export(ExportFormat format, OutputStream output, Supplier<Stream<E>> rows,
+                            List<String> columns, Function<E, ?> toJson, Function<E, List<?>> toCsv) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        CsvWriter csv = new CsvWriter(writer);
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<E> stream = rows.get()) {
+                if (format == ExportFormat.CSV) {
+                    csv.writeRecord(columns);
+                }
+                stream.forEach(entity -> {
+                    try {
+                        if (format == ExportFormat.CSV) {
+                            csv.writeRecord(toCsv.apply(entity));
+                        } else {
+                            writer.write(jsonWriter.writeValueAsString(toJson.apply(entity)));
+                            writer.write('\n');
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    entityManager.detach(entity);
+                });
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+}
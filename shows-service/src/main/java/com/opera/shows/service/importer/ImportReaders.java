@@ -0,0 +1,158 @@
+package com.opera.shows.service.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.opera.shows.util.CsvReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Streaming parsers turning an upload into {@link ImportRow}s one record at a time.
+ */
+final class ImportReaders {
+
+    /**
+     * Columns understood in CSV uploads. A row carrying {@code singerId} also adds that singer
+     * to the row's show; rows without {@code operaId} only add cast to an earlier show.
+     */
+    static final List<String> CSV_COLUMNS = List.of(
+            "id", "operaId", "startTime", "endTime", "venue", "description", "imageUrl", "status",
+            "singerId", "characterName", "role");
+
+    private ImportReaders() {
+    }
+
+    /**
+     * One JSON object per line; a malformed line is reported and parsing continues with the next.
+     */
+    static Iterator<ImportRow> ndjson(BufferedReader reader, ObjectReader objectReader) {
+        ObjectReader recordReader = objectReader.forType(ShowImportRecord.class);
+        return new RowIterator() {
+            private long line;
+
+            @Override
+            ImportRow readNext() {
+                String text;
+                do {
+                    text = readLine(reader);
+                    line++;
+                } while (text != null && text.isBlank());
+                if (text == null) {
+                    return null;
+                }
+                try {
+                    return ImportRow.parsed(line, recordReader.readValue(text));
+                } catch (JsonProcessingException e) {
+                    return ImportRow.failed(line, "Malformed JSON: " + e.getOriginalMessage());
+                }
+            }
+        };
+    }
+
+    /**
+     * CSV with a header row naming some of {@link #CSV_COLUMNS}, in any order.
+     *
+     * @throws IllegalArgumentException if the header is missing or names an unknown column
+     */
+    static Iterator<ImportRow> csv(BufferedReader reader) {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header = csv.readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV upload has no header row");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i).trim();
+            if (!CSV_COLUMNS.contains(column)) {
+                throw new IllegalArgumentException("Unknown CSV column '" + column + "', expected " + CSV_COLUMNS);
+            }
+            columns.put(column, i);
+        }
+        return new RowIterator() {
+            @Override
+            ImportRow readNext() {
+                List<String> fields;
+                try {
+                    fields = csv.readRecord();
+                } catch (IllegalArgumentException e) {
+                    return ImportRow.failed(csv.getRecordLine(), e.getMessage());
+                }
+                if (fields == null) {
+                    return null;
+                }
+                if (fields.size() != header.size()) {
+                    return ImportRow.failed(csv.getRecordLine(),
+                            "Expected " + header.size() + " fields but found " + fields.size());
+                }
+                ShowImportRecord record = new ShowImportRecord();
+                record.setId(field(fields, columns, "id"));
+                record.setOperaId(field(fields, columns, "operaId"));
+                record.setStartTime(field(fields, columns, "startTime"));
+                record.setEndTime(field(fields, columns, "endTime"));
+                record.setVenue(field(fields, columns, "venue"));
+                record.setDescription(field(fields, columns, "description"));
+                record.setImageUrl(field(fields, columns, "imageUrl"));
+                record.setStatus(field(fields, columns, "status"));
+                String singerId = field(fields, columns, "singerId");
+                if (singerId != null) {
+                    ShowImportRecord.CastImportRecord cast = new ShowImportRecord.CastImportRecord();
+                    cast.setSingerId(singerId);
+                    cast.setCharacterName(field(fields, columns, "characterName"));
+                    cast.setRole(field(fields, columns, "role"));
+                    record.getCast().add(cast);
+                }
+                return ImportRow.parsed(csv.getRecordLine(), record);
+            }
+        };
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null) {
+            return null;
+        }
+        String value = fields.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String readLine(BufferedReader reader) {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private abstract static class RowIterator implements Iterator<ImportRow> {
+        private ImportRow next;
+        private boolean done;
+
+        abstract ImportRow readNext();
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !done) {
+                next = readNext();
+                done = next == null;
+            }
+            return next != null;
+        }
+
+        @Override
+        public ImportRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ImportRow row = next;
+            next = null;
+            return row;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.opera.shows.service.importer;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. Rows listed in {@code errors} were not written; at most
+ * {@link ShowImportService#MAX_REPORTED_ERRORS} are listed, {@code errorCount} counts all.
+ *
+ * @param skipped rows that already existed and were left untouched
+ */
+public record ImportReport(
+        long rows,
+        long showsInserted,
+        long castInserted,
+        long skipped,
+        long errorCount,
+        List<RowError> errors) {
+
+    public record RowError(long line, String message) {
+    }
+}
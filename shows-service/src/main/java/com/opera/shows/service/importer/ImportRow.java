@@ -0,0 +1,16 @@
+package com.opera.shows.service.importer;
+
+/**
+ * A parsed import record and the input line it starts on; {@code error} is set instead of
+ * {@code record} when the line could not be parsed.
+ */
+record ImportRow(long line, ShowImportRecord record, String error) {
+
+    static ImportRow parsed(long line, ShowImportRecord record) {
+        return new ImportRow(line, record, null);
+    }
+
+    static ImportRow failed(long line, String error) {
+        return new ImportRow(line, null, error);
+    }
+}
@@ -0,0 +1,37 @@
+package com.opera.shows.service.importer;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One show in a bulk import, as read from NDJSON or CSV. Values are kept as text and
+ * validated by {@link ShowImportService} so that bad values are reported per row.
+ * <p>
+ * A record without {@code operaId} only adds its {@code cast} to the show {@code id},
+ * which must exist already or have been imported earlier in the same upload.
+ */
+@Data
+public class ShowImportRecord {
+    private String id;
+    private String operaId;
+    private String startTime;
+    private String endTime;
+    private String venue;
+    private String description;
+    private String imageUrl;
+    private String status;
+    private List<CastImportRecord> cast = new ArrayList<>();
+
+    boolean isCastOnly() {
+        return operaId == null || operaId.isBlank();
+    }
+
+    @Data
+    public static class CastImportRecord {
+        private String singerId;
+        private String characterName;
+        private String role;
+    }
+}
@@ -0,0 +1,425 @@
+package com.opera.shows.service.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opera.shows.exception.BookingConflictException;
+import com.opera.shows.model.Show;
+import com.opera.shows.service.conflict.BookingConflictDetector;
+import com.opera.shows.service.event.CastChangedEvent;
+import com.opera.shows.service.event.ShowChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bulk import of shows and cast members.
+ * <p>
+ * Uploads are parsed one record at a time and written in chunks of
+ * {@code shows.import.chunk-size} rows, each chunk in its own transaction with one multi-row
+ * insert for {@code shows} and one for {@code show_singers}. Rows are validated before they
+ * are written and every rejected row is reported with its line number. Shows or cast
+ * entries that already exist are skipped ({@code ON CONFLICT DO NOTHING}); the cast listed on
+ * a row for an existing show is still imported, as for a cast-only row.
+ * <p>
+ * Imported shows go through the same venue and singer double-booking checks as
+ * {@code createShow} and {@code addCastMember}, against everything committed before the
+ * chunk; overlaps between rows of the same chunk are not detected.
+ */
+@Service
+public class ShowImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ShowImportService.class);
+
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    /**
+     * Ids per IN list when checking referenced shows and singers.
+     */
+    private static final int LOOKUP_BATCH_SIZE = 1000;
+
+    // Each parameter is an array holding one column of the chunk; RETURNING reports the rows
+    // actually written, whatever the driver's batch settings (e.g. reWriteBatchedInserts)
+    private static final String INSERT_SHOWS =
+            "INSERT INTO shows (id, opera_id, start_time, end_time, venue, description, image_url, status, " +
+            "created_at, updated_at, version) " +
+            "SELECT id, opera_id, start_time, end_time, venue, description, image_url, status, now(), now(), 0 " +
+            "FROM unnest(?::uuid[], ?::uuid[], ?::timestamp[], ?::timestamp[], ?::varchar[], ?::text[], " +
+            "?::varchar[], ?::varchar[]) " +
+            "AS r(id, opera_id, start_time, end_time, venue, description, image_url, status) " +
+            "ON CONFLICT DO NOTHING RETURNING id";
+
+    private static final String INSERT_CAST =
+            "INSERT INTO show_singers (id, show_id, singer_id, character_name, role, created_at, updated_at, version) " +
+            "SELECT id, show_id, singer_id, character_name, role, now(), now(), 0 " +
+            "FROM unnest(?::uuid[], ?::uuid[], ?::uuid[], ?::varchar[], ?::varchar[]) " +
+            "AS r(id, show_id, singer_id, character_name, role) " +
+            "ON CONFLICT DO NOTHING RETURNING id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BookingConflictDetector conflictDetector;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final DateTimeFormatter formatter = DateTimeFormatter.ISO_DATE_TIME;
+
+    public ShowImportService(JdbcTemplate jdbcTemplate,
+                             TransactionTemplate transactionTemplate,
+                             ApplicationEventPublisher eventPublisher,
+                             BookingConflictDetector conflictDetector,
+                             ObjectMapper objectMapper,
+                             @Value("${shows.import.chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.conflictDetector = conflictDetector;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    public ImportReport importNdjson(InputStream input) {
+        return importRows(ImportReaders.ndjson(reader(input), objectMapper.reader()));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the header row is missing or invalid
+     */
+    public ImportReport importCsv(InputStream input) {
+        return importRows(ImportReaders.csv(reader(input)));
+    }
+
+    private static BufferedReader reader(InputStream input) {
+        return new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+    }
+
+    private ImportReport importRows(Iterator<ImportRow> rows) {
+        Progress progress = new Progress();
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        while (rows.hasNext()) {
+            ImportRow row = rows.next();
+            progress.rows++;
+            if (row.error() != null) {
+                progress.error(row.line(), row.error());
+                continue;
+            }
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                writeChunk(chunk, progress);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, progress);
+        }
+        log.info("Imported {} shows and {} cast entries from {} rows ({} skipped, {} rejected)",
+                progress.showsInserted, progress.castInserted, progress.rows, progress.skipped, progress.errorCount);
+        return progress.toReport();
+    }
+
+    private void writeChunk(List<ImportRow> chunk, Progress progress) {
+        List<ValidRow> valid = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            try {
+                valid.add(validate(row));
+            } catch (IllegalArgumentException | BookingConflictException e) {
+                progress.error(row.line(), e.getMessage());
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+        Progress chunkProgress = new Progress();
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(valid, chunkProgress));
+            progress.add(chunkProgress);
+        } catch (DataAccessException e) {
+            log.warn("Import chunk starting on line {} failed", valid.get(0).line(), e);
+            String message = "Not imported, the batch containing this row failed: " + e.getMostSpecificCause().getMessage();
+            for (ValidRow row : valid) {
+                progress.error(row.line(), message);
+            }
+        }
+    }
+
+    private void write(List<ValidRow> rows, Progress progress) {
+        // Shows
+        List<Show> shows = rows.stream().filter(row -> row.show() != null).map(ValidRow::show).toList();
+        Set<UUID> writtenShowIds = insert(INSERT_SHOWS, shows,
+                column("uuid", Show::getId),
+                column("uuid", Show::getOperaId),
+                column("timestamp", show -> Timestamp.valueOf(show.getStartTime())),
+                column("timestamp", show -> Timestamp.valueOf(show.getEndTime())),
+                column("varchar", Show::getVenue),
+                column("text", Show::getDescription),
+                column("varchar", Show::getImageUrl),
+                column("varchar", show -> show.getStatus().name()));
+        // A repeated id is written once, for its first row
+        Set<UUID> insertedShowIds = new HashSet<>();
+        List<Show> insertedShows = new ArrayList<>();
+        for (Show show : shows) {
+            if (writtenShowIds.contains(show.getId()) && insertedShowIds.add(show.getId())) {
+                insertedShows.add(show);
+                progress.showsInserted++;
+            } else {
+                progress.skipped++;
+            }
+        }
+
+        // Cast, checked against the shows and singers it references. The cast of a show row
+        // that was skipped because the show already exists is imported like a cast-only row.
+        Map<UUID, Show> castShows = new HashMap<>();
+        insertedShows.forEach(show -> castShows.put(show.getId(), show));
+        Set<UUID> referencedShows = new HashSet<>();
+        Set<UUID> referencedSingers = new HashSet<>();
+        for (ValidRow row : rows) {
+            if (!row.cast().isEmpty() && !castShows.containsKey(row.showId())) {
+                referencedShows.add(row.showId());
+            }
+            row.cast().forEach(cast -> referencedSingers.add(cast.singerId()));
+        }
+        findShows(referencedShows).forEach(show -> castShows.put(show.getId(), show));
+        Set<UUID> knownSingers = findSingerIds(referencedSingers);
+
+        List<CastEntry> cast = new ArrayList<>();
+        for (ValidRow row : rows) {
+            if (row.cast().isEmpty()) {
+                continue;
+            }
+            Show show = castShows.get(row.showId());
+            if (show == null) {
+                // A skipped show row whose id is unknown collided with another show's opera, start and venue
+                progress.error(row.line(), row.show() == null
+                        ? "Show " + row.showId() + " does not exist"
+                        : "Show skipped: another show has the same opera, start time and venue; its cast was not imported");
+                continue;
+            }
+            for (CastEntry entry : row.cast()) {
+                if (!knownSingers.contains(entry.singerId())) {
+                    progress.error(row.line(), "Singer " + entry.singerId() + " does not exist");
+                    continue;
+                }
+                try {
+                    conflictDetector.checkCastMember(show, entry.singerId());
+                } catch (BookingConflictException e) {
+                    progress.error(row.line(), e.getMessage());
+                    continue;
+                }
+                cast.add(entry);
+            }
+        }
+        Set<UUID> writtenCastIds = insert(INSERT_CAST, cast,
+                column("uuid", CastEntry::id),
+                column("uuid", CastEntry::showId),
+                column("uuid", CastEntry::singerId),
+                column("varchar", CastEntry::characterName),
+                column("varchar", CastEntry::role));
+
+        // Derived state (schedule index, conflict trees) follows once the chunk commits
+        for (Show show : insertedShows) {
+            eventPublisher.publishEvent(ShowChangedEvent.saved(show, true));
+        }
+        for (CastEntry entry : cast) {
+            if (writtenCastIds.contains(entry.id())) {
+                progress.castInserted++;
+                eventPublisher.publishEvent(CastChangedEvent.added(entry.showId(), entry.singerId()));
+            } else {
+                progress.skipped++;
+            }
+        }
+    }
+
+    private ValidRow validate(ImportRow row) {
+        ShowImportRecord record = row.record();
+        List<CastEntry> cast = new ArrayList<>();
+        Show show = null;
+        UUID showId;
+        if (record.isCastOnly()) {
+            showId = parseUuid(required(record.getId(), "id"), "id");
+            if (record.getCast().isEmpty()) {
+                throw new IllegalArgumentException("Row has neither show fields (operaId) nor cast");
+            }
+        } else {
+            showId = record.getId() == null ? UUID.randomUUID() : parseUuid(record.getId(), "id");
+            show = new Show();
+            show.setId(showId);
+            show.setVersion(0L);
+            show.setOperaId(parseUuid(required(record.getOperaId(), "operaId"), "operaId"));
+            show.setStartTime(parseDateTime(required(record.getStartTime(), "startTime"), "startTime"));
+            show.setEndTime(parseDateTime(required(record.getEndTime(), "endTime"), "endTime"));
+            if (!show.getEndTime().isAfter(show.getStartTime())) {
+                throw new IllegalArgumentException("endTime must be after startTime");
+            }
+            show.setVenue(required(record.getVenue(), "venue"));
+            show.setDescription(record.getDescription());
+            show.setImageUrl(record.getImageUrl());
+            show.setStatus(record.getStatus() == null ? Show.ShowStatus.SCHEDULED : parseStatus(record.getStatus()));
+            conflictDetector.checkShow(showId, show.getVenue(), show.getStartTime(), show.getEndTime(),
+                    show.getStatus());
+        }
+        for (ShowImportRecord.CastImportRecord entry : record.getCast()) {
+            cast.add(new CastEntry(
+                    UUID.randomUUID(),
+                    showId,
+                    parseUuid(required(entry.getSingerId(), "cast.singerId"), "cast.singerId"),
+                    entry.getCharacterName(),
+                    required(entry.getRole(), "cast.role")));
+        }
+        return new ValidRow(row.line(), showId, show, cast);
+    }
+
+    /**
+     * Inserts all rows with one statement, binding each column as an SQL array, and returns
+     * the ids of the rows written; rows that already existed are missing from the result.
+     */
+    @SafeVarargs
+    private <T> Set<UUID> insert(String sql, List<T> rows, Column<T>... columns) {
+        if (rows.isEmpty()) {
+            return Set.of();
+        }
+        PreparedStatementCreator statement = connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql);
+            for (int i = 0; i < columns.length; i++) {
+                Object[] values = rows.stream().map(columns[i].value()).toArray();
+                ps.setArray(i + 1, connection.createArrayOf(columns[i].sqlType(), values));
+            }
+            return ps;
+        };
+        return new HashSet<>(jdbcTemplate.query(statement, (rs, rowNum) -> rs.getObject(1, UUID.class)));
+    }
+
+    private static <T> Column<T> column(String sqlType, Function<T, Object> value) {
+        return new Column<>(sqlType, value);
+    }
+
+    private List<Show> findShows(Collection<UUID> ids) {
+        List<Show> shows = new ArrayList<>();
+        for (List<UUID> batch : batches(ids)) {
+            shows.addAll(namedJdbcTemplate.query(
+                    "SELECT id, start_time, end_time, status FROM shows WHERE id IN (:ids)",
+                    Map.of("ids", batch),
+                    (rs, rowNum) -> {
+                        Show show = new Show();
+                        show.setId(rs.getObject("id", UUID.class));
+                        show.setStartTime(rs.getTimestamp("start_time").toLocalDateTime());
+                        show.setEndTime(rs.getTimestamp("end_time").toLocalDateTime());
+                        show.setStatus(Show.ShowStatus.valueOf(rs.getString("status")));
+                        return show;
+                    }));
+        }
+        return shows;
+    }
+
+    private Set<UUID> findSingerIds(Collection<UUID> ids) {
+        Set<UUID> found = new HashSet<>();
+        for (List<UUID> batch : batches(ids)) {
+            found.addAll(namedJdbcTemplate.queryForList(
+                    "SELECT id FROM singers WHERE id IN (:ids)", Map.of("ids", batch), UUID.class));
+        }
+        return found;
+    }
+
+    private static List<List<UUID>> batches(Collection<UUID> ids) {
+        List<UUID> all = new ArrayList<>(ids);
+        List<List<UUID>> batches = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += LOOKUP_BATCH_SIZE) {
+            batches.add(all.subList(from, Math.min(from + LOOKUP_BATCH_SIZE, all.size())));
+        }
+        return batches;
+    }
+
+    private static String required(String value, String field) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(field + " is required");
+        }
+        return value;
+    }
+
+    private static UUID parseUuid(String value, String field) {
+        try {
+            return UUID.fromString(value.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(field + " is not a valid UUID: " + value);
+        }
+    }
+
+    private LocalDateTime parseDateTime(String value, String field) {
+        try {
+            return LocalDateTime.parse(value.trim(), formatter);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(field + " is not an ISO date-time: " + value);
+        }
+    }
+
+    private static Show.ShowStatus parseStatus(String value) {
+        try {
+            return Show.ShowStatus.valueOf(value.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid status: " + value);
+        }
+    }
+
+    private record ValidRow(long line, UUID showId, Show show, List<CastEntry> cast) {
+    }
+
+    private record CastEntry(UUID id, UUID showId, UUID singerId, String characterName, String role) {
+    }
+
+    private record Column<T>(String sqlType, Function<T, Object> value) {
+    }
+
+    private static final class Progress {
+        private long rows;
+        private long showsInserted;
+        private long castInserted;
+        private long skipped;
+        private long errorCount;
+        private final List<ImportReport.RowError> errors = new ArrayList<>();
+
+        private void error(long line, String message) {
+            errorCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportReport.RowError(line, message));
+            }
+        }
+
+        private void add(Progress chunk) {
+            showsInserted += chunk.showsInserted;
+            castInserted += chunk.castInserted;
+            skipped += chunk.skipped;
+            chunk.errors.forEach(error -> error(error.line(), error.message()));
+            errorCount += chunk.errorCount - chunk.errors.size();
+        }
+
+        private ImportReport toReport() {
+            return new ImportReport(rows, showsInserted, castInserted, skipped, errorCount, List.copyOf(errors));
+        }
+    }
+}
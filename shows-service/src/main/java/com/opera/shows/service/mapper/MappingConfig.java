@@ -0,0 +1,12 @@
+package com.opera.shows.service.mapper;
+
+import org.mapstruct.MapperConfig;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Shared by the entity/DTO mappers, whose implementations are generated at compile time.
+ * A property added to an entity or DTO fails the build until it is mapped or explicitly ignored.
+ */
+@MapperConfig(unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface MappingConfig {
+}
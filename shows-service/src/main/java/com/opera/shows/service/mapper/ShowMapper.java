@@ -0,0 +1,27 @@
+package com.opera.shows.service.mapper;
+
+import com.opera.shows.model.Show;
+import com.opera.shows.service.dto.ShowDTO;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+/**
+ * The cast is not mapped: it is attached from projected rows ({@code ShowServiceImpl.withCast}).
+ * The opera is resolved through federation and never copied onto an entity.
+ */
+@Mapper(config = MappingConfig.class)
+public interface ShowMapper {
+
+    ShowMapper INSTANCE = Mappers.getMapper(ShowMapper.class);
+
+    @Mapping(target = "cast", ignore = true)
+    ShowDTO toDto(Show show);
+
+    @Mapping(target = "cast", ignore = true)
+    @Mapping(target = "opera", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    Show toEntity(ShowDTO dto);
+}
@@ -0,0 +1,27 @@
+package com.opera.shows.service.mapper;
+
+import com.opera.shows.model.ShowSinger;
+import com.opera.shows.service.dto.ShowSingerDTO;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+/**
+ * Only the ids of the show and singer are mapped, so mapping never initializes either association.
+ * When going back to an entity, both references have to be set separately.
+ */
+@Mapper(config = MappingConfig.class)
+public interface ShowSingerMapper {
+
+    ShowSingerMapper INSTANCE = Mappers.getMapper(ShowSingerMapper.class);
+
+    @Mapping(target = "singer", ignore = true)
+    ShowSingerDTO toDto(ShowSinger showSinger);
+
+    @Mapping(target = "show", ignore = true)
+    @Mapping(target = "singer", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    ShowSinger toEntity(ShowSingerDTO dto);
+}
@@ -0,0 +1,24 @@
+package com.opera.shows.service.mapper;
+
+import com.opera.shows.model.Singer;
+import com.opera.shows.service.dto.SingerDTO;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+/**
+ * Show appearances are not mapped; they are loaded in batches by {@code ShowAppearanceDataLoader}.
+ */
+@Mapper(config = MappingConfig.class)
+public interface SingerMapper {
+
+    SingerMapper INSTANCE = Mappers.getMapper(SingerMapper.class);
+
+    SingerDTO toDto(Singer singer);
+
+    @Mapping(target = "showAppearances", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    Singer toEntity(SingerDTO dto);
+}
@@ -0,0 +1,102 @@
+package com.opera.shows.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming RFC 4180 reader: comma separated, fields optionally enclosed in double
+ * quotes, {@code ""} for a literal quote, line breaks allowed inside quoted fields.
+ * Records are read one at a time, so input of any size is parsed in constant memory.
+ */
+public class CsvReader {
+
+    private final Reader reader;
+    private long line = 1;
+    private long recordLine;
+    private boolean eof;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Line on which the record last returned by {@link #readRecord()} starts (1-based).
+     */
+    public long getRecordLine() {
+        return recordLine;
+    }
+
+    /**
+     * Returns the next record, or {@code null} at end of input. Blank lines are skipped.
+     *
+     * @throws IllegalArgumentException if a quoted field is not terminated
+     */
+    public List<String> readRecord() {
+        while (!eof) {
+            recordLine = line;
+            List<String> fields = parseRecord();
+            if (fields.size() > 1 || !fields.get(0).isEmpty()) {
+                return fields;
+            }
+        }
+        return null;
+    }
+
+    private List<String> parseRecord() {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean afterQuote = false;
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                eof = true;
+                if (quoted) {
+                    throw new IllegalArgumentException("Unterminated quoted field starting on line " + recordLine);
+                }
+                fields.add(field.toString());
+                return fields;
+            }
+            if (quoted) {
+                if (c == '"') {
+                    quoted = false;
+                    afterQuote = true;
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                // Opening quote, or the second half of an escaped "" inside a quoted field
+                if (afterQuote) {
+                    field.append('"');
+                }
+                quoted = true;
+                afterQuote = false;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                afterQuote = false;
+            } else if (c == '\n') {
+                line++;
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+                afterQuote = false;
+            }
+        }
+    }
+
+    private int read() {
+        try {
+            return reader.read();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
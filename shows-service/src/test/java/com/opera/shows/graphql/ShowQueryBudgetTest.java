@@ -0,0 +1,88 @@
+package com.opera.shows.graphql;
+
+import com.netflix.graphql.dgs.DgsQueryExecutor;
+import com.opera.testsupport.db.EmbeddedPostgresInitializer;
+import com.opera.testsupport.graphql.QueryBudget;
+import com.opera.testsupport.sql.StatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Keeps the list queries free of N+1 patterns: the statements they run must not grow with the
+ * number of shows, cast entries or appearances.
+ */
+@SpringBootTest
+@ContextConfiguration(initializers = EmbeddedPostgresInitializer.class)
+class ShowQueryBudgetTest {
+
+    private static final String SHOWS_WITH_CAST = "{ shows { cast { singer { lastName } } } }";
+
+    private static final String SINGERS_WITH_APPEARANCES = "{ singers { showAppearances { show { venue } } } }";
+
+    @Autowired
+    private DgsQueryExecutor queryExecutor;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private QueryBudget budget;
+
+    private LocalDateTime nextStart = LocalDateTime.of(2030, 1, 1, 19, 0);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE show_singers, shows, singers");
+        budget = new QueryBudget(queryExecutor, statementCounter);
+    }
+
+    @Test
+    void showsWithCastRunsAFixedNumberOfStatements() {
+        addShowsWithCast(3, 4);
+
+        budget.assertAtMost(3, SHOWS_WITH_CAST);
+    }
+
+    @Test
+    void showsWithCastIsIndependentOfRows() {
+        addShowsWithCast(2, 2);
+
+        budget.assertIndependentOfRows(SHOWS_WITH_CAST, () -> addShowsWithCast(10, 5));
+    }
+
+    @Test
+    void singersWithAppearancesIsIndependentOfRows() {
+        addShowsWithCast(2, 2);
+
+        budget.assertIndependentOfRows(SINGERS_WITH_APPEARANCES, () -> addShowsWithCast(10, 5));
+    }
+
+    private void addShowsWithCast(int shows, int castSize) {
+        for (int i = 0; i < shows; i++) {
+            UUID showId = UUID.randomUUID();
+            LocalDateTime start = nextStart;
+            nextStart = nextStart.plusDays(1);
+            jdbcTemplate.update("INSERT INTO shows (id, opera_id, start_time, end_time, venue, status) "
+                            + "VALUES (?, ?, ?, ?, ?, 'SCHEDULED')",
+                    showId, UUID.randomUUID(), start, start.plusHours(3), "Venue " + i);
+            for (int j = 0; j < castSize; j++) {
+                UUID singerId = UUID.randomUUID();
+                jdbcTemplate.update("INSERT INTO singers (id, first_name, last_name, voice_type) "
+                                + "VALUES (?, 'Singer', ?, 'TENOR')",
+                        singerId, singerId.toString());
+                jdbcTemplate.update("INSERT INTO show_singers (id, show_id, singer_id, character_name, role) "
+                                + "VALUES (?, ?, ?, ?, 'Main')",
+                        UUID.randomUUID(), showId, singerId, "Character " + j);
+            }
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.opera.shows.service.mapper;
+
+import com.opera.shows.model.Opera;
+import com.opera.shows.model.Show;
+import com.opera.shows.model.ShowSinger;
+import com.opera.shows.model.Singer;
+import com.opera.shows.service.dto.ShowDTO;
+import com.opera.shows.service.dto.ShowSingerDTO;
+import com.opera.shows.service.dto.SingerDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The generated mappers must copy exactly what the hand-written {@code fromEntity}/{@code toEntity}
+ * methods they replaced copied. The fixture entities throw from their association getters, so a
+ * mapper that reads an association (a lazy load on a managed entity) fails the test.
+ */
+class EntityMapperParityTest {
+
+    private static final UUID SHOW_ID = UUID.randomUUID();
+    private static final UUID SINGER_ID = UUID.randomUUID();
+
+    @Test
+    void showToDtoCopiesTheScalarFieldsOnly() {
+        Show show = show();
+
+        ShowDTO dto = ShowMapper.INSTANCE.toDto(show);
+
+        assertThat(dto.id()).isEqualTo(show.getId());
+        assertThat(dto.operaId()).isEqualTo(show.getOperaId());
+        assertThat(dto.startTime()).isEqualTo(show.getStartTime());
+        assertThat(dto.endTime()).isEqualTo(show.getEndTime());
+        assertThat(dto.venue()).isEqualTo(show.getVenue());
+        assertThat(dto.description()).isEqualTo(show.getDescription());
+        assertThat(dto.imageUrl()).isEqualTo(show.getImageUrl());
+        assertThat(dto.status()).isEqualTo(show.getStatus());
+        assertThat(dto.cast()).isEmpty();
+    }
+
+    @Test
+    void showToEntityCopiesTheScalarFieldsOnly() {
+        ShowDTO dto = ShowMapper.INSTANCE.toDto(show())
+                .withCast(List.of(ShowSingerMapper.INSTANCE.toDto(showSinger())));
+
+        Show show = ShowMapper.INSTANCE.toEntity(dto);
+
+        assertThat(show.getId()).isEqualTo(dto.id());
+        assertThat(show.getOperaId()).isEqualTo(dto.operaId());
+        assertThat(show.getStartTime()).isEqualTo(dto.startTime());
+        assertThat(show.getEndTime()).isEqualTo(dto.endTime());
+        assertThat(show.getVenue()).isEqualTo(dto.venue());
+        assertThat(show.getDescription()).isEqualTo(dto.description());
+        assertThat(show.getImageUrl()).isEqualTo(dto.imageUrl());
+        assertThat(show.getStatus()).isEqualTo(dto.status());
+        assertThat(show.getCast()).isEmpty();
+        assertThat(show.getOpera()).isNull();
+        assertThat(show.getCreatedAt()).isNull();
+        assertThat(show.getUpdatedAt()).isNull();
+        assertThat(show.getVersion()).isNull();
+    }
+
+    @Test
+    void singerToDtoCopiesTheScalarFieldsOnly() {
+        Singer singer = singer();
+
+        SingerDTO dto = SingerMapper.INSTANCE.toDto(singer);
+
+        assertThat(dto.id()).isEqualTo(singer.getId());
+        assertThat(dto.firstName()).isEqualTo(singer.getFirstName());
+        assertThat(dto.lastName()).isEqualTo(singer.getLastName());
+        assertThat(dto.dateOfBirth()).isEqualTo(singer.getDateOfBirth());
+        assertThat(dto.nationality()).isEqualTo(singer.getNationality());
+        assertThat(dto.bio()).isEqualTo(singer.getBio());
+        assertThat(dto.imageUrl()).isEqualTo(singer.getImageUrl());
+        assertThat(dto.voiceType()).isEqualTo(singer.getVoiceType());
+    }
+
+    @Test
+    void singerToEntityCopiesTheScalarFieldsOnly() {
+        SingerDTO dto = SingerMapper.INSTANCE.toDto(singer());
+
+        Singer singer = SingerMapper.INSTANCE.toEntity(dto);
+
+        assertThat(singer.getId()).isEqualTo(dto.id());
+        assertThat(singer.getFirstName()).isEqualTo(dto.firstName());
+        assertThat(singer.getLastName()).isEqualTo(dto.lastName());
+        assertThat(singer.getDateOfBirth()).isEqualTo(dto.dateOfBirth());
+        assertThat(singer.getNationality()).isEqualTo(dto.nationality());
+        assertThat(singer.getBio()).isEqualTo(dto.bio());
+        assertThat(singer.getImageUrl()).isEqualTo(dto.imageUrl());
+        assertThat(singer.getVoiceType()).isEqualTo(dto.voiceType());
+        assertThat(singer.getShowAppearances()).isEmpty();
+        assertThat(singer.getCreatedAt()).isNull();
+        assertThat(singer.getUpdatedAt()).isNull();
+        assertThat(singer.getVersion()).isNull();
+    }
+
+    @Test
+    void showSingerToDtoCopiesTheIdsWithoutTheAssociations() {
+        ShowSinger showSinger = showSinger();
+
+        ShowSingerDTO dto = ShowSingerMapper.INSTANCE.toDto(showSinger);
+
+        assertThat(dto.id()).isEqualTo(showSinger.getId());
+        assertThat(dto.showId()).isEqualTo(SHOW_ID);
+        assertThat(dto.singerId()).isEqualTo(SINGER_ID);
+        assertThat(dto.characterName()).isEqualTo(showSinger.getCharacterName());
+        assertThat(dto.role()).isEqualTo(showSinger.getRole());
+        assertThat(dto.singer()).isNull();
+    }
+
+    @Test
+    void showSingerToEntityLeavesTheReferencesToTheCaller() {
+        ShowSingerDTO dto = ShowSingerMapper.INSTANCE.toDto(showSinger())
+                .withSinger(SingerMapper.INSTANCE.toDto(singer()));
+
+        ShowSinger showSinger = ShowSingerMapper.INSTANCE.toEntity(dto);
+
+        assertThat(showSinger.getId()).isEqualTo(dto.id());
+        assertThat(showSinger.getCharacterName()).isEqualTo(dto.characterName());
+        assertThat(showSinger.getRole()).isEqualTo(dto.role());
+        assertThat(showSinger.getShow()).isNull();
+        assertThat(showSinger.getSinger()).isNull();
+        assertThat(showSinger.getShowId()).isNull();
+        assertThat(showSinger.getSingerId()).isNull();
+    }
+
+    @Test
+    void nullMapsToNull() {
+        assertThat(ShowMapper.INSTANCE.toDto(null)).isNull();
+        assertThat(SingerMapper.INSTANCE.toDto(null)).isNull();
+        assertThat(ShowSingerMapper.INSTANCE.toDto(null)).isNull();
+    }
+
+    private static Show show() {
+        Show show = new Show() {
+            @Override
+            public Collection<ShowSinger> getCast() {
+                throw new AssertionError("Show.cast was read");
+            }
+
+            @Override
+            public Opera getOpera() {
+                throw new AssertionError("Show.opera was read");
+            }
+        };
+        show.setId(SHOW_ID);
+        show.setOperaId(UUID.randomUUID());
+        show.setStartTime(LocalDateTime.of(2030, 3, 14, 19, 30));
+        show.setEndTime(LocalDateTime.of(2030, 3, 14, 22, 45));
+        show.setVenue("Palais Garnier");
+        show.setDescription("New production");
+        show.setImageUrl("https://example.org/tosca.jpg");
+        show.setStatus(Show.ShowStatus.POSTPONED);
+        show.setCreatedAt(LocalDateTime.of(2029, 1, 1, 0, 0));
+        show.setUpdatedAt(LocalDateTime.of(2029, 2, 1, 0, 0));
+        show.setVersion(3L);
+        return show;
+    }
+
+    private static Singer singer() {
+        Singer singer = new Singer() {
+            @Override
+            public Collection<ShowSinger> getShowAppearances() {
+                throw new AssertionError("Singer.showAppearances was read");
+            }
+        };
+        singer.setId(SINGER_ID);
+        singer.setFirstName("Maria");
+        singer.setLastName("Callas");
+        singer.setDateOfBirth(LocalDate.of(1923, 12, 2));
+        singer.setNationality("Greek");
+        singer.setBio("Soprano");
+        singer.setImageUrl("https://example.org/callas.jpg");
+        singer.setVoiceType(Singer.VoiceType.SOPRANO);
+        singer.setCreatedAt(LocalDateTime.of(2029, 1, 1, 0, 0));
+        singer.setUpdatedAt(LocalDateTime.of(2029, 2, 1, 0, 0));
+        singer.setVersion(5L);
+        return singer;
+    }
+
+    private static ShowSinger showSinger() {
+        ShowSinger showSinger = new ShowSinger() {
+            @Override
+            public Show getShow() {
+                throw new AssertionError("ShowSinger.show was read");
+            }
+
+            @Override
+            public Singer getSinger() {
+                throw new AssertionError("ShowSinger.singer was read");
+            }
+        };
+        Show show = new Show();
+        show.setId(SHOW_ID);
+        Singer singer = new Singer();
+        singer.setId(SINGER_ID);
+        // The setters also fill in the read-only foreign key copies
+        showSinger.setShow(show);
+        showSinger.setSinger(singer);
+        showSinger.setId(UUID.randomUUID());
+        showSinger.setCharacterName("Tosca");
+        showSinger.setRole("Main");
+        return showSinger;
+    }
+}
@@ -0,0 +1,294 @@
+package com.opera.sqlmetrics;
+
+import com.opera.sqlmetrics.jdbc.StatementListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Collects the SQL statements run through the application DataSource (see
+ * {@link com.opera.sqlmetrics.jdbc.MeteredDataSource}) and the number of statements per GraphQL
+ * operation (see {@link com.opera.sqlmetrics.graphql.StatementBudgetInstrumentation}).
+ * <p>
+ * Micrometer gets one timer per command and table ({@code sql.statements}), with a percentile
+ * histogram, and one distribution summary per operation ({@code graphql.operation.sql.statements}).
+ * Per-statement detail keyed by the SQL text is kept in memory for {@code /actuator/sqlstats}.
+ * <p>
+ * Operation names are chosen by clients, so only the first {@code maxOperations} distinct names
+ * are tagged individually; operations with later names are counted under {@link #OTHER_OPERATIONS}.
+ */
+public class SqlMetrics implements StatementListener {
+
+    /**
+     * Distinct SQL texts tracked individually; later ones are counted under {@link #OTHER_STATEMENTS}.
+     */
+    static final int MAX_TRACKED_STATEMENTS = 500;
+
+    static final String OTHER_STATEMENTS = "(other statements)";
+
+    static final String OTHER_OPERATIONS = "other";
+
+    private static final Pattern COMMAND = Pattern.compile("^\\s*(\\w+)");
+    private static final Pattern TABLE = Pattern.compile(
+            "\\b(?:from|into|update|join)\\s+([\\w.\"]+)", Pattern.CASE_INSENSITIVE);
+
+    private static final ThreadLocal<StatementCount> currentCount = new ThreadLocal<>();
+
+    private final MeterRegistry registry;
+    private final Map<String, StatementStats> byStatement = new ConcurrentHashMap<>();
+    private final Map<String, OperationStats> byOperation = new ConcurrentHashMap<>();
+    private final AtomicInteger trackedStatements = new AtomicInteger();
+    // Not cleared by reset(): the meters registered for these names stay in the registry
+    private final Set<String> taggedOperations = ConcurrentHashMap.newKeySet();
+    private final int maxOperations;
+
+    public SqlMetrics(MeterRegistry registry, int maxOperations) {
+        this.registry = registry;
+        this.maxOperations = maxOperations;
+    }
+
+    /**
+     * Records one executed statement and adds it to the count bound to this thread, if any.
+     */
+    @Override
+    public void statementExecuted(String sql, long nanos, boolean failed) {
+        statsFor(sql == null ? OTHER_STATEMENTS : sql).record(nanos, failed);
+        StatementCount count = currentCount.get();
+        if (count != null) {
+            count.increment();
+        }
+    }
+
+    /**
+     * Adds the statements this thread runs to {@code count} until the binding is closed, which must
+     * happen on this same thread. Bindings nest: closing one restores the count bound before it.
+     */
+    public Binding bind(StatementCount count) {
+        StatementCount previous = currentCount.get();
+        currentCount.set(count);
+        return () -> {
+            if (previous == null) {
+                currentCount.remove();
+            } else {
+                currentCount.set(previous);
+            }
+        };
+    }
+
+    public void recordOperation(String operation, int statements, boolean overBudget) {
+        byOperation.computeIfAbsent(operationTag(operation), name -> new OperationStats(name, registry))
+                .record(statements, overBudget);
+    }
+
+    /**
+     * The {@code limit} statements with the highest total execution time.
+     */
+    public List<StatementStats> topStatements(int limit) {
+        return byStatement.values().stream()
+                .sorted(Comparator.comparingLong(StatementStats::getTotalNanos).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public List<OperationStats> operations() {
+        return byOperation.values().stream()
+                .sorted(Comparator.comparingLong(OperationStats::getTotalStatements).reversed())
+                .toList();
+    }
+
+    /**
+     * Clears the per-statement and per-operation detail; Micrometer meters keep counting.
+     */
+    public void reset() {
+        byStatement.clear();
+        byOperation.clear();
+        trackedStatements.set(0);
+    }
+
+    private StatementStats statsFor(String sql) {
+        StatementStats stats = byStatement.get(sql);
+        if (stats != null) {
+            return stats;
+        }
+        if (trackedStatements.get() >= MAX_TRACKED_STATEMENTS) {
+            sql = OTHER_STATEMENTS;
+        }
+        return byStatement.computeIfAbsent(sql, text -> {
+            trackedStatements.incrementAndGet();
+            return new StatementStats(text, timerFor(text));
+        });
+    }
+
+    private String operationTag(String operation) {
+        if (taggedOperations.contains(operation)) {
+            return operation;
+        }
+        synchronized (taggedOperations) {
+            if (taggedOperations.size() < maxOperations) {
+                taggedOperations.add(operation);
+                return operation;
+            }
+        }
+        return OTHER_OPERATIONS;
+    }
+
+    private Timer timerFor(String sql) {
+        String command = "other";
+        String table = "none";
+        Matcher commandMatcher = COMMAND.matcher(sql);
+        if (commandMatcher.find()) {
+            command = commandMatcher.group(1).toLowerCase(Locale.ROOT);
+        }
+        Matcher tableMatcher = TABLE.matcher(sql);
+        if (tableMatcher.find()) {
+            table = tableMatcher.group(1).replace("\"", "").toLowerCase(Locale.ROOT);
+        }
+        return Timer.builder("sql.statements")
+                .description("SQL statements executed through the application DataSource")
+                .tag("command", command)
+                .tag("table", table)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    /**
+     * Statements counted for one unit of work, such as a GraphQL operation. It can be bound to
+     * several threads at once, so the count is atomic.
+     */
+    public static final class StatementCount {
+
+        private final AtomicInteger statements = new AtomicInteger();
+
+        private void increment() {
+            statements.incrementAndGet();
+        }
+
+        public int get() {
+            return statements.get();
+        }
+    }
+
+    /**
+     * Ends a {@link #bind(StatementCount) binding}.
+     */
+    @FunctionalInterface
+    public interface Binding extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    public static final class StatementStats {
+
+        private final String sql;
+        private final Timer timer;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+        private StatementStats(String sql, Timer timer) {
+            this.sql = sql;
+            this.timer = timer;
+        }
+
+        private void record(long nanos, boolean failed) {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            if (failed) {
+                failures.increment();
+            }
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getFailures() {
+            return failures.sum();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        public long getMaxNanos() {
+            return maxNanos.get();
+        }
+    }
+
+    public static final class OperationStats {
+
+        private final String operation;
+        private final DistributionSummary statementsPerExecution;
+        private final Counter overBudget;
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder totalStatements = new LongAdder();
+        private final LongAdder overBudgetExecutions = new LongAdder();
+        private final LongAccumulator maxStatements = new LongAccumulator(Long::max, 0);
+
+        private OperationStats(String operation, MeterRegistry registry) {
+            this.operation = operation;
+            this.statementsPerExecution = DistributionSummary.builder("graphql.operation.sql.statements")
+                    .description("SQL statements executed per GraphQL operation")
+                    .tag("operation", operation)
+                    .publishPercentileHistogram()
+                    .register(registry);
+            this.overBudget = Counter.builder("graphql.operation.sql.budget.exceeded")
+                    .description("GraphQL operations that executed more SQL statements than the budget")
+                    .tag("operation", operation)
+                    .register(registry);
+        }
+
+        private void record(int statements, boolean exceeded) {
+            statementsPerExecution.record(statements);
+            executions.increment();
+            totalStatements.add(statements);
+            maxStatements.accumulate(statements);
+            if (exceeded) {
+                overBudget.increment();
+                overBudgetExecutions.increment();
+            }
+        }
+
+        public String getOperation() {
+            return operation;
+        }
+
+        public long getExecutions() {
+            return executions.sum();
+        }
+
+        public long getTotalStatements() {
+            return totalStatements.sum();
+        }
+
+        public long getMaxStatements() {
+            return maxStatements.get();
+        }
+
+        public long getOverBudgetExecutions() {
+            return overBudgetExecutions.sum();
+        }
+    }
+}
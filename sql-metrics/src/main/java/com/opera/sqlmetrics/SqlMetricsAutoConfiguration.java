@@ -0,0 +1,97 @@
+package com.opera.sqlmetrics;
+
+import com.opera.sqlmetrics.actuator.SqlStatsEndpoint;
+import com.opera.sqlmetrics.graphql.StatementBudgetInstrumentation;
+import com.opera.sqlmetrics.hibernate.HibernateStatisticsMetrics;
+import com.opera.sqlmetrics.jdbc.MeteredDataSource;
+import com.opera.sqlmetrics.jdbc.StatementListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application DataSource (the bean named {@code dataSource}) in a {@link MeteredDataSource}
+ * reporting to every {@link StatementListener} bean, {@link SqlMetrics} included, and adds the
+ * Hibernate statistics meters, the GraphQL statement budget and {@code /actuator/sqlstats} when
+ * Hibernate, graphql-java and the actuator are on the classpath.
+ * Only that DataSource is wrapped, so statements are counted once even when it routes to other pools.
+ * Set {@code sql-metrics.enabled=false} to turn all of it off.
+ */
+@AutoConfiguration(afterName = {
+        "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration",
+        "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration"})
+@ConditionalOnProperty(name = "sql-metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMetricsAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConfigurationProperties(prefix = "sql-metrics")
+    public SqlMetricsProperties sqlMetricsProperties() {
+        return new SqlMetricsProperties();
+    }
+
+    @Bean
+    public SqlMetrics sqlMetrics(MeterRegistry registry, SqlMetricsProperties properties) {
+        return new SqlMetrics(registry, properties.getMaxOperations());
+    }
+
+    @Bean
+    public static BeanPostProcessor sqlMetricsDataSourcePostProcessor(ObjectProvider<StatementListener> listeners) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)
+                        && !(bean instanceof MeteredDataSource)) {
+                    return new MeteredDataSource(dataSource, listeners.orderedStream().toList());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.hibernate.SessionFactory")
+    @ConditionalOnBean(EntityManagerFactory.class)
+    static class HibernateStatisticsConfiguration {
+
+        @Bean
+        public HibernateStatisticsMetrics hibernateStatisticsMetrics(EntityManagerFactory entityManagerFactory) {
+            return new HibernateStatisticsMetrics(entityManagerFactory);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "graphql.execution.instrumentation.Instrumentation")
+    static class GraphQLConfiguration {
+
+        @Bean
+        public StatementBudgetInstrumentation statementBudgetInstrumentation(SqlMetrics sqlMetrics,
+                                                                             SqlMetricsProperties properties) {
+            return new StatementBudgetInstrumentation(sqlMetrics, properties.getStatementBudget());
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+    static class EndpointConfiguration {
+
+        @Bean
+        @ConditionalOnAvailableEndpoint(endpoint = SqlStatsEndpoint.class)
+        public SqlStatsEndpoint sqlStatsEndpoint(SqlMetrics sqlMetrics,
+                                                 ObjectProvider<HibernateStatisticsMetrics> hibernateMetrics) {
+            return new SqlStatsEndpoint(sqlMetrics, hibernateMetrics.getIfAvailable());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.opera.sqlmetrics;
+
+/**
+ * Settings for the SQL metrics. The auto-configuration binds them under {@code sql-metrics};
+ * a service that keeps them under its own prefix declares this bean itself:
+ * <pre>{@code
+ * @Bean
+ * @ConfigurationProperties(prefix = "shows.sql-metrics")
+ * public SqlMetricsProperties sqlMetricsProperties() {
+ *     return new SqlMetricsProperties();
+ * }
+ * }</pre>
+ */
+public class SqlMetricsProperties {
+
+    /**
+     * GraphQL operations executing more SQL statements than this are logged and counted.
+     */
+    private int statementBudget = 25;
+
+    /**
+     * Distinct GraphQL operation names tagged individually on the per-operation meters; operations
+     * with later names, which clients choose freely, are tagged {@code other}.
+     */
+    private int maxOperations = 100;
+
+    public int getStatementBudget() {
+        return statementBudget;
+    }
+
+    public void setStatementBudget(int statementBudget) {
+        this.statementBudget = statementBudget;
+    }
+
+    public int getMaxOperations() {
+        return maxOperations;
+    }
+
+    public void setMaxOperations(int maxOperations) {
+        this.maxOperations = maxOperations;
+    }
+}
@@ -0,0 +1,105 @@
+package com.opera.sqlmetrics.actuator;
+
+import com.opera.sqlmetrics.SqlMetrics;
+import com.opera.sqlmetrics.hibernate.HibernateStatisticsMetrics;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Exposes {@code /actuator/sqlstats}: GET reports Hibernate load and fetch counts, the
+ * statements with the highest total execution time, and SQL statements per GraphQL
+ * operation; the Hibernate part is disabled when the service has no JPA. DELETE resets the
+ * statement and operation detail only: the Hibernate counts back the {@code hibernate.*}
+ * Micrometer counters, which must never go down.
+ */
+@Endpoint(id = "sqlstats")
+public class SqlStatsEndpoint {
+
+    private static final int TOP_STATEMENTS = 50;
+
+    private final SqlMetrics sqlMetrics;
+    private final HibernateStatisticsMetrics hibernateMetrics;
+
+    public SqlStatsEndpoint(SqlMetrics sqlMetrics, HibernateStatisticsMetrics hibernateMetrics) {
+        this.sqlMetrics = sqlMetrics;
+        this.hibernateMetrics = hibernateMetrics;
+    }
+
+    @ReadOperation
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("hibernate", hibernateStats());
+        result.put("statements", statementStats());
+        result.put("operations", operationStats());
+        return result;
+    }
+
+    @DeleteOperation
+    public void reset() {
+        sqlMetrics.reset();
+    }
+
+    private Map<String, Object> hibernateStats() {
+        if (hibernateMetrics == null) {
+            return Map.of("enabled", false);
+        }
+        Statistics statistics = hibernateMetrics.getStatistics();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", statistics.isStatisticsEnabled());
+        result.put("entityLoadCount", statistics.getEntityLoadCount());
+        result.put("entityFetchCount", statistics.getEntityFetchCount());
+        result.put("collectionLoadCount", statistics.getCollectionLoadCount());
+        result.put("collectionFetchCount", statistics.getCollectionFetchCount());
+        result.put("queryExecutionCount", statistics.getQueryExecutionCount());
+        result.put("prepareStatementCount", statistics.getPrepareStatementCount());
+        Map<String, Object> entities = new TreeMap<>();
+        for (String entityName : statistics.getEntityNames()) {
+            EntityStatistics entity = statistics.getEntityStatistics(entityName);
+            Map<String, Object> counts = new LinkedHashMap<>();
+            counts.put("loadCount", entity.getLoadCount());
+            counts.put("fetchCount", entity.getFetchCount());
+            entities.put(entityName.substring(entityName.lastIndexOf('.') + 1), counts);
+        }
+        result.put("entities", entities);
+        return result;
+    }
+
+    private List<Map<String, Object>> statementStats() {
+        return sqlMetrics.topStatements(TOP_STATEMENTS).stream()
+                .map(statement -> {
+                    Map<String, Object> result = new LinkedHashMap<>();
+                    result.put("sql", statement.getSql());
+                    result.put("count", statement.getCount());
+                    result.put("failures", statement.getFailures());
+                    result.put("totalMillis", statement.getTotalNanos() / 1_000_000.0);
+                    result.put("meanMillis", statement.getTotalNanos() / 1_000_000.0 / Math.max(1, statement.getCount()));
+                    result.put("maxMillis", statement.getMaxNanos() / 1_000_000.0);
+                    return result;
+                })
+                .toList();
+    }
+
+    private List<Map<String, Object>> operationStats() {
+        return sqlMetrics.operations().stream()
+                .map(operation -> {
+                    Map<String, Object> result = new LinkedHashMap<>();
+                    result.put("operation", operation.getOperation());
+                    result.put("executions", operation.getExecutions());
+                    result.put("totalStatements", operation.getTotalStatements());
+                    result.put("meanStatements",
+                            (double) operation.getTotalStatements() / Math.max(1, operation.getExecutions()));
+                    result.put("maxStatements", operation.getMaxStatements());
+                    result.put("overBudgetExecutions", operation.getOverBudgetExecutions());
+                    return result;
+                })
+                .toList();
+    }
+}
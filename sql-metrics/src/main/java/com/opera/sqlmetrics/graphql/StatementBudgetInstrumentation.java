@@ -0,0 +1,101 @@
+package com.opera.sqlmetrics.graphql;
+
+import com.opera.sqlmetrics.SqlMetrics;
+import com.opera.sqlmetrics.SqlMetricsProperties;
+import graphql.ExecutionResult;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationCreateStateParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.schema.DataFetcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Counts the SQL statements each GraphQL operation executes and warns when one exceeds
+ * {@link SqlMetricsProperties#getStatementBudget()}, which is usually an N+1 query pattern.
+ * <p>
+ * The count lives in the operation's {@link InstrumentationState}. It is bound to the executing
+ * thread only while graphql-java runs on it: for the synchronous part of the execution, which
+ * includes the data loader dispatches it triggers, and around every non-trivial data fetcher,
+ * on whatever thread that fetcher is called. Each binding is closed on the thread that opened it.
+ * Statements that a fetcher or a batch loader runs on a thread of its own, after the call that
+ * started them has returned, are not counted.
+ */
+public class StatementBudgetInstrumentation extends SimplePerformantInstrumentation {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementBudgetInstrumentation.class);
+
+    private final SqlMetrics sqlMetrics;
+    private final int statementBudget;
+
+    public StatementBudgetInstrumentation(SqlMetrics sqlMetrics, int statementBudget) {
+        this.sqlMetrics = sqlMetrics;
+        this.statementBudget = statementBudget;
+    }
+
+    @Override
+    public InstrumentationState createState(InstrumentationCreateStateParameters parameters) {
+        return new OperationState();
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecution(InstrumentationExecutionParameters parameters,
+                                                                 InstrumentationState state) {
+        String operation = parameters.getOperation() != null ? parameters.getOperation() : "anonymous";
+        SqlMetrics.StatementCount statements = ((OperationState) state).statements;
+        return SimpleInstrumentationContext.whenCompleted((result, error) -> {
+            int count = statements.get();
+            boolean overBudget = count > statementBudget;
+            if (overBudget) {
+                log.warn("GraphQL operation {} executed {} SQL statements, over the budget of {}",
+                        operation, count, statementBudget);
+            }
+            sqlMetrics.recordOperation(operation, count, overBudget);
+        });
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecuteOperation(
+            InstrumentationExecuteOperationParameters parameters, InstrumentationState state) {
+        // graphql-java calls onDispatched on this thread as soon as the execution strategy
+        // returns, whether or not the result is complete
+        SqlMetrics.Binding binding = sqlMetrics.bind(((OperationState) state).statements);
+        return new InstrumentationContext<>() {
+            @Override
+            public void onDispatched(CompletableFuture<ExecutionResult> result) {
+                binding.close();
+            }
+
+            @Override
+            public void onCompleted(ExecutionResult result, Throwable t) {
+            }
+        };
+    }
+
+    @Override
+    public DataFetcher<?> instrumentDataFetcher(DataFetcher<?> dataFetcher,
+                                                InstrumentationFieldFetchParameters parameters,
+                                                InstrumentationState state) {
+        if (parameters.isTrivialDataFetcher()) {
+            return dataFetcher;
+        }
+        SqlMetrics.StatementCount statements = ((OperationState) state).statements;
+        return environment -> {
+            try (SqlMetrics.Binding binding = sqlMetrics.bind(statements)) {
+                return dataFetcher.get(environment);
+            }
+        };
+    }
+
+    private static final class OperationState implements InstrumentationState {
+
+        private final SqlMetrics.StatementCount statements = new SqlMetrics.StatementCount();
+    }
+}
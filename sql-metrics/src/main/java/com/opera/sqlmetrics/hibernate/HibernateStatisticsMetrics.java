@@ -0,0 +1,61 @@
+package com.opera.sqlmetrics.hibernate;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes Hibernate's session factory statistics as Micrometer counters: entity and collection
+ * loads and fetches, overall and per entity, plus query executions and prepared statements.
+ * Requires {@code hibernate.generate_statistics}; the counters stay at zero otherwise.
+ */
+public class HibernateStatisticsMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+
+    public HibernateStatisticsMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public Statistics getStatistics() {
+        return statistics;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        counter(registry, "hibernate.entities.loads", "Entities loaded", Statistics::getEntityLoadCount);
+        counter(registry, "hibernate.entities.fetches", "Entities fetched lazily or by id",
+                Statistics::getEntityFetchCount);
+        counter(registry, "hibernate.collections.loads", "Collections loaded", Statistics::getCollectionLoadCount);
+        counter(registry, "hibernate.collections.fetches", "Collections fetched lazily",
+                Statistics::getCollectionFetchCount);
+        counter(registry, "hibernate.queries.executions", "HQL and native queries executed",
+                Statistics::getQueryExecutionCount);
+        counter(registry, "hibernate.statements.prepared", "JDBC statements prepared",
+                Statistics::getPrepareStatementCount);
+
+        for (String entityName : statistics.getEntityNames()) {
+            String entity = entityName.substring(entityName.lastIndexOf('.') + 1);
+            FunctionCounter.builder("hibernate.entity.loads", statistics,
+                            stats -> stats.getEntityStatistics(entityName).getLoadCount())
+                    .tag("entity", entity)
+                    .register(registry);
+            FunctionCounter.builder("hibernate.entity.fetches", statistics,
+                            stats -> stats.getEntityStatistics(entityName).getFetchCount())
+                    .tag("entity", entity)
+                    .register(registry);
+        }
+    }
+
+    private void counter(MeterRegistry registry, String name, String description,
+                         ToDoubleFunction<Statistics> count) {
+        FunctionCounter.builder(name, statistics, count)
+                .description(description)
+                .register(registry);
+    }
+}
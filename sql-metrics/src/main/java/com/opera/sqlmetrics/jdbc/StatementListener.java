@@ -0,0 +1,18 @@
+package com.opera.sqlmetrics.jdbc;
+
+/**
+ * Told about every statement executed through the {@link MeteredDataSource}. Beans of this type are
+ * picked up by the auto-configuration, so other modules can observe statements without wrapping the
+ * DataSource again.
+ */
+@FunctionalInterface
+public interface StatementListener {
+
+    /**
+     * @param sql    the statement text, as prepared for prepared statements; {@code null} for a
+     *               JDBC batch of plain statements
+     * @param nanos  how long the execute call took
+     * @param failed whether it threw
+     */
+    void statementExecuted(String sql, long nanos, boolean failed);
+}
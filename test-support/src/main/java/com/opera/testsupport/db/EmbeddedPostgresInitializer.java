@@ -0,0 +1,56 @@
+package com.opera.testsupport.db;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+/**
+ * Points the application's DataSource and Liquibase at an embedded PostgreSQL server, so tests
+ * run against the real dialect (native queries, extensions) without a database install, Docker
+ * or network access:
+ * <pre>{@code
+ * @SpringBootTest
+ * @ContextConfiguration(initializers = EmbeddedPostgresInitializer.class)
+ * }</pre>
+ * One server is started per JVM and shared by all test contexts; it stops when the JVM exits.
+ */
+public class EmbeddedPostgresInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+    private static EmbeddedPostgres postgres;
+
+    @Override
+    public void initialize(ConfigurableApplicationContext context) {
+        String url = server().getJdbcUrl("postgres", "postgres");
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("embeddedPostgres", Map.of(
+                "spring.datasource.url", url,
+                "spring.datasource.username", "postgres",
+                "spring.datasource.password", "postgres",
+                "spring.liquibase.url", url,
+                "spring.liquibase.user", "postgres",
+                "spring.liquibase.password", "postgres")));
+    }
+
+    private static synchronized EmbeddedPostgres server() {
+        if (postgres == null) {
+            try {
+                postgres = EmbeddedPostgres.builder().start();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not start embedded PostgreSQL", e);
+            }
+            EmbeddedPostgres started = postgres;
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    started.close();
+                } catch (IOException e) {
+                    // The JVM is exiting anyway
+                }
+            }, "embedded-postgres-shutdown"));
+        }
+        return postgres;
+    }
+}
@@ -0,0 +1,83 @@
+package com.opera.testsupport.graphql;
+
+import com.netflix.graphql.dgs.DgsQueryExecutor;
+import com.opera.testsupport.sql.StatementCounter;
+import graphql.ExecutionResult;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Asserts how many SQL statements a GraphQL operation executes, to catch N+1 regressions:
+ * <pre>{@code
+ * QueryBudget budget = new QueryBudget(queryExecutor, statementCounter);
+ * budget.assertAtMost(3, "{ shows { cast { singer { lastName } } } }");
+ * budget.assertIndependentOfRows("{ shows { cast { singer { lastName } } } }", this::addShowsWithCast);
+ * }</pre>
+ * Failures list the statements that ran, which usually points straight at the loop.
+ */
+public class QueryBudget {
+
+    private final DgsQueryExecutor queryExecutor;
+    private final StatementCounter statementCounter;
+
+    public QueryBudget(DgsQueryExecutor queryExecutor, StatementCounter statementCounter) {
+        this.queryExecutor = queryExecutor;
+        this.statementCounter = statementCounter;
+    }
+
+    public ExecutionResult assertAtMost(int maxStatements, String query) {
+        return assertAtMost(maxStatements, query, Map.of());
+    }
+
+    /**
+     * Runs {@code query} and fails if it returns errors or executes more than {@code maxStatements}.
+     */
+    public ExecutionResult assertAtMost(int maxStatements, String query, Map<String, Object> variables) {
+        Execution execution = execute(query, variables);
+        if (execution.statements().size() > maxStatements) {
+            throw new AssertionError("Expected at most " + maxStatements + " SQL statements but "
+                    + execution.statements().size() + " were executed by " + query + describe(execution.statements()));
+        }
+        return execution.result();
+    }
+
+    /**
+     * Runs {@code query}, lets {@code addRows} insert more data, runs it again, and fails if the
+     * second run executes more statements than the first.
+     */
+    public void assertIndependentOfRows(String query, Runnable addRows) {
+        assertIndependentOfRows(query, Map.of(), addRows);
+    }
+
+    public void assertIndependentOfRows(String query, Map<String, Object> variables, Runnable addRows) {
+        Execution before = execute(query, variables);
+        addRows.run();
+        Execution after = execute(query, variables);
+        if (after.statements().size() > before.statements().size()) {
+            throw new AssertionError("SQL statements grew from " + before.statements().size() + " to "
+                    + after.statements().size() + " with more rows for " + query + describe(after.statements()));
+        }
+    }
+
+    private Execution execute(String query, Map<String, Object> variables) {
+        statementCounter.reset();
+        ExecutionResult result = queryExecutor.execute(query, variables);
+        List<String> statements = statementCounter.statements();
+        if (!result.getErrors().isEmpty()) {
+            throw new AssertionError("Query " + query + " failed: " + result.getErrors());
+        }
+        return new Execution(result, statements);
+    }
+
+    private static String describe(List<String> statements) {
+        StringBuilder description = new StringBuilder(":");
+        for (int i = 0; i < statements.size(); i++) {
+            description.append(System.lineSeparator()).append(i + 1).append(". ").append(statements.get(i));
+        }
+        return description.toString();
+    }
+
+    private record Execution(ExecutionResult result, List<String> statements) {
+    }
+}
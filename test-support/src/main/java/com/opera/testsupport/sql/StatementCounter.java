@@ -0,0 +1,39 @@
+package com.opera.testsupport.sql;
+
+import com.opera.sqlmetrics.jdbc.StatementListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Records the SQL statements executed through the application DataSource since the last
+ * {@link #reset()}. Shared by all threads: tests are expected to run one operation at a time.
+ */
+public class StatementCounter implements StatementListener {
+
+    private final List<String> statements = Collections.synchronizedList(new ArrayList<>());
+
+    public void reset() {
+        statements.clear();
+    }
+
+    public int count() {
+        return statements.size();
+    }
+
+    /**
+     * The statements executed since the last reset, in order; prepared statements as prepared,
+     * without bind values.
+     */
+    public List<String> statements() {
+        synchronized (statements) {
+            return List.copyOf(statements);
+        }
+    }
+
+    @Override
+    public void statementExecuted(String sql, long nanos, boolean failed) {
+        statements.add(sql == null ? "(batch)" : sql);
+    }
+}
@@ -0,0 +1,21 @@
+package com.opera.testsupport.sql;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Exposes a {@link StatementCounter}, which the sql-metrics module's wrapper around the application
+ * DataSource reports every statement to. Active whenever this module is on the classpath, which
+ * should only be the case in tests; set {@code test-support.statement-counting.enabled=false} to
+ * turn it off. Counting needs the SQL metrics, so it also stops with {@code sql-metrics.enabled=false}.
+ */
+@AutoConfiguration
+@ConditionalOnProperty(name = "test-support.statement-counting.enabled", havingValue = "true", matchIfMissing = true)
+public class StatementCountingAutoConfiguration {
+
+    @Bean
+    public StatementCounter statementCounter() {
+        return new StatementCounter();
+    }
+}